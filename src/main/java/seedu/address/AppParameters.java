@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path restorePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getRestorePath() {
+        return restorePath;
+    }
+
+    /**
+     * Sets the snapshot to restore as the address book at startup, or null to start with the data file as it is.
+     */
+    public void setRestorePath(Path restorePath) {
+        this.restorePath = restorePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +52,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String restorePathParameter = namedParameters.get("restore");
+        if (restorePathParameter != null && !FileUtil.isValidPath(restorePathParameter)) {
+            logger.warning("Invalid snapshot path " + restorePathParameter + ". Not restoring a snapshot.");
+            restorePathParameter = null;
+        }
+        appParameters.setRestorePath(restorePathParameter != null ? Paths.get(restorePathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +73,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getRestorePath(), otherAppParameters.getRestorePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, restorePath);
     }
 }
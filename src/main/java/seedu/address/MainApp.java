@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -24,6 +26,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryLoader;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -31,8 +34,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SnapshotService;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -46,6 +53,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 6, 0, true);
 
+    private static final Duration SNAPSHOT_INTERVAL = Duration.ofDays(1);
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -53,6 +62,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected SnapshotService snapshotService;
 
     @Override
     public void init() throws Exception {
@@ -64,11 +74,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
+        if (appParameters.getRestorePath() != null) {
+            restoreSnapshot(storage, appParameters.getRestorePath());
+        }
+        if (userPrefs.getSnapshotGenerations() > 0) {
+            snapshotService = new SnapshotService(
+                    SnapshotService.getSnapshotDirectoryPath(userPrefs.getAddressBookFilePath()),
+                    userPrefs.getSnapshotGenerations());
+        }
+
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
@@ -76,6 +95,37 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.isAddressBookFileMemoryMapped());
+        case SHARDED:
+            return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case SQL:
+            return new SqlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        default:
+            return new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Saves the address book in the snapshot at {@code snapshotPath} as the address book in {@code storage}.
+     * The data file is left as it is if the snapshot cannot be read.
+     */
+    private void restoreSnapshot(Storage storage, Path snapshotPath) {
+        try {
+            storage.saveAddressBook(SnapshotService.readSnapshot(snapshotPath));
+            logger.info("Restored the snapshot " + snapshotPath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to restore the snapshot " + snapshotPath + ". Will be starting with the data file "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -84,10 +134,21 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        LocalDate firstLoadedDay = null;
+        HistoryLoader historyLoader = null;
         try {
-            addressBookOptional = storage.readAddressBook();
+            if (userPrefs.getRecentMonthsToLoad() > 0) {
+                LocalDate since = LocalDate.now().minusMonths(userPrefs.getRecentMonthsToLoad() - 1);
+                addressBookOptional = storage.readRecentAddressBook(since);
+                firstLoadedDay = since;
+                historyLoader = storage::readHistory;
+            } else {
+                addressBookOptional = storage.readAddressBook();
+            }
             if (addressBookOptional.isEmpty()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
+                firstLoadedDay = null;
+                historyLoader = null;
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
@@ -118,7 +179,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, firstLoadedDay, historyLoader);
     }
 
     private void initLogging(Config config) {
@@ -197,6 +258,10 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (snapshotService != null) {
+            // Snapshots are read from the data file, which has the past sessions that may not be loaded yet
+            snapshotService.start(SNAPSHOT_INTERVAL, storage);
+        }
 
         //get the first window and request focus
         //if there is an error dialog, it will be focused, otherwise, FitEgo app will be focused.
@@ -261,6 +326,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        storage.stopWatchingAddressBookFile();
+        if (snapshotService != null) {
+            snapshotService.close();
+        }
+        storage.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,28 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the address book data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, with the changes between full saves appended to a journal. */
+    JSON(".json"),
+    /** A compact binary format, which is smaller and faster to read and write. */
+    BINARY(".bin"),
+    /** Json split into a file for the clients and a file for each month of sessions, which are saved separately. */
+    SHARDED(".json"),
+    /** An embedded SQLite database, to which each save writes only the rows that changed. */
+    SQL(".db");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension, including the dot, of data files in this format.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
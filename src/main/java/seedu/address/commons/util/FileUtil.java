@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+
+    /**
+     * Writes the contents of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream output) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +92,70 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, output -> output.write(bytes));
+    }
+
+    /**
+     * Writes the output of {@code contentWriter} to a temporary file next to {@code file}, forces it to the disk
+     * and then renames it over {@code file}, so that a crash leaves either the old or the new contents in
+     * {@code file} but never a partly written file.
+     * Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, contentWriter, false);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, and keeps the contents that {@code file} had before
+     * at {@link #getPreviousGenerationPath(Path)}, to fall back on if the new contents turn out to be unreadable.
+     */
+    public static void writeAtomicallyKeepingPrevious(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, contentWriter, true);
+    }
+
+    private static void writeAtomically(Path file, ContentWriter contentWriter, boolean isKeepingPrevious)
+            throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        createParentDirsOfFile(file);
+
+        try (OutputStream output = Files.newOutputStream(tempFile)) {
+            contentWriter.write(output);
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        if (isKeepingPrevious && isFileExists(file)) {
+            Path previousFile = getPreviousGenerationPath(file);
+            Files.deleteIfExists(previousFile);
+            try {
+                // The current file stays in place until it is replaced, so a crash here loses nothing
+                Files.createLink(previousFile, file);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(file, previousFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        moveReplacing(tempFile, file);
+    }
+
+    /**
+     * Returns the path at which {@link #writeAtomicallyKeepingPrevious(Path, ContentWriter)} keeps the previous
+     * contents of {@code file}.
+     */
+    public static Path getPreviousGenerationPath(Path file) {
+        return file.resolveSibling(file.getFileName() + PREVIOUS_GENERATION_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing it, atomically if the file system supports it.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
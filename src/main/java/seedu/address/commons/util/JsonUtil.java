@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -15,6 +17,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -40,12 +43,45 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, true);
     }
 
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is serialized, without building the whole json
+     * document in memory first. Jackson buffers the output itself.
+     * The file is replaced atomically, so a crash while writing leaves its previous contents intact.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isPrettyPrinted)
+            throws IOException {
+        FileUtil.writeAtomically(jsonFile, output -> writeJson(output, objectToSerialize, isPrettyPrinted));
+    }
+
+    /**
+     * Writes {@code objectToSerialize} to {@code outputStream} as json, and closes the stream.
+     */
+    public static <T> void writeJson(OutputStream outputStream, T objectToSerialize, boolean isPrettyPrinted)
+            throws IOException {
+        ObjectWriter writer = isPrettyPrinted ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer();
+        writer.writeValue(outputStream, objectToSerialize);
+    }
+
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from {@code jsonFile} as it is parsed, without reading
+     * the whole file into memory first. Jackson buffers the input itself.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = Files.newInputStream(jsonFile)) {
+            return readJson(inputStream, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from the json in {@code inputStream}, and closes the
+     * stream.
+     */
+    public static <T> T readJson(InputStream inputStream, Class<T> classOfObjectToDeserialize) throws IOException {
+        return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
     }
 
     /**
@@ -84,10 +120,18 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isPrettyPrinted whether to indent the Json object, or to write it without any whitespace
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isPrettyPrinted);
     }
 
 
@@ -110,6 +154,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without the
+     * whitespace added by {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
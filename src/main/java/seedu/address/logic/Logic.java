@@ -2,6 +2,8 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -13,6 +15,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionRange;
 import seedu.address.model.util.WeightUnit;
 
 /**
@@ -28,6 +31,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is called with an error message when the address book could not be saved after a
+     * command. As saving happens in the background, the handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Starts applying the changes that other programs make to the data file to the model.
+     * The changes are applied by {@code modelExecutor}, which runs them on the thread that the model is used on,
+     * and {@code changeHandler} is then called with a message describing them.
+     */
+    void watchDataFile(Executor modelExecutor, Consumer<String> changeHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -44,6 +60,9 @@ public interface Logic {
     /** Updates the predicate on the filtered list of Session */
     void updateFilteredSessionList(Predicate<Session> predicate);
 
+    /** Updates the filtered list of Sessions to show the Sessions in {@code range} */
+    void updateSessionRange(SessionRange range);
+
     /** Returns the list of Clients associated to a Session*/
     List<Client> getAssociatedClientList(Session session);
 
@@ -3,12 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,6 +22,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionRange;
 import seedu.address.model.util.WeightUnit;
 import seedu.address.storage.Storage;
 
@@ -27,12 +31,17 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_DATA_FILE_CHANGED = "The data file was changed by another program, and its "
+            + "%d changed clients, sessions and schedules have been loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Version of the address book as of the last save, which need not be saved again until it changes
+    private long savedAddressBookVersion;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,6 +49,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBook().getVersion();
     }
 
     @Override
@@ -49,14 +59,39 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        saveAddressBookIfChanged();
+
+        return commandResult;
+    }
+
+    private void saveAddressBookIfChanged() {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() != savedAddressBookVersion) {
+            storage.saveAddressBookInBackground(addressBook, model.takeAddressBookChanges());
+            savedAddressBookVersion = addressBook.getVersion();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
 
+    @Override
+    public void watchDataFile(Executor modelExecutor, Consumer<String> changeHandler) {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.watchAddressBookFile(addressBook -> modelExecutor.execute(() -> {
+                int changeCount = model.updateAddressBook(addressBook);
+                if (changeCount == 0) {
+                    return;
+                }
+                // Saved in case a command was saved after the changed file was read, and overwrote it
+                saveAddressBookIfChanged();
+                changeHandler.accept(String.format(MESSAGE_DATA_FILE_CHANGED, changeCount));
+            }));
         } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            logger.warning("Unable to watch the data file for changes " + StringUtil.getDetails(ioe));
         }
-
-        return commandResult;
     }
 
     @Override
@@ -79,6 +114,11 @@ public class LogicManager implements Logic {
         model.updateFilteredSessionList(predicate);
     }
 
+    @Override
+    public void updateSessionRange(SessionRange range) {
+        model.updateSessionRange(range);
+    }
+
     @Override
     public List<Client> getAssociatedClientList(Session sessionKey) {
         return model.findClientBySession(sessionKey);
@@ -90,11 +90,6 @@ public class EditClientCommand extends Command {
 
         model.setClient(clientToEdit, editedClient);
 
-        // Update the Schedules associated with clientToEdit
-        if (model.hasAnyScheduleAssociatedWithClient(clientToEdit)) {
-            model.editSchedulesAssociatedWithClient(clientToEdit, editedClient);
-        }
-
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
 
         // Set the main window to be the edited client's detail view
@@ -1,15 +1,20 @@
 package seedu.address.logic.commands.client;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.client.NameContainsSubstringPredicate;
+import seedu.address.model.client.ClientSearchCriteria;
 
 /**
- * Finds and lists all Clients in address book whose name contains any of the argument keywords.
+ * Finds and lists all Clients in address book that match the argument keywords of every field searched.
  * Keyword matching is case insensitive.
  */
 public class FindClientCommand extends Command {
@@ -18,19 +23,27 @@ public class FindClientCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all Clients whose names contain any of "
             + "the specified substring (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " al bob c";
-
-    private final NameContainsSubstringPredicate predicate;
-
-    public FindClientCommand(NameContainsSubstringPredicate predicate) {
-        this.predicate = predicate;
+            + "Phones, emails and addresses can be searched for words they start with, and Clients can be searched "
+            + "for tags they have. Clients must match every field searched.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_PHONE + "PHONE]... "
+            + "[" + PREFIX_EMAIL + "EMAIL]... "
+            + "[" + PREFIX_ADDRESS + "ADDRESS]... "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " al bob c\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "9123 " + PREFIX_TAG + "injured-thigh";
+
+    private final ClientSearchCriteria criteria;
+
+    public FindClientCommand(ClientSearchCriteria criteria) {
+        this.criteria = criteria;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredClientList(predicate);
+        model.searchClients(criteria);
         return new CommandResult(
                 String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
     }
@@ -39,6 +52,6 @@ public class FindClientCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindClientCommand // instanceof handles nulls
-                && predicate.equals(((FindClientCommand) other).predicate)); // state check
+                && criteria.equals(((FindClientCommand) other).criteria)); // state check
     }
 }
@@ -63,7 +63,6 @@ public class EditSessionCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Session> lastShownSessionList = model.getFilteredSessionList();
-        List<Session> sessionList = model.getAddressBook().getSessionList();
 
         if (index.getZeroBased() >= lastShownSessionList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_SESSION_DISPLAYED_INDEX);
@@ -78,20 +77,12 @@ public class EditSessionCommand extends Command {
         }
 
         // Checks for overlapping sessions
-        for (Session session : sessionList) {
-            if (!session.equals(sessionToEdit)) {
-                if (Interval.isOverlap(session.getInterval(), editedSession.getInterval())) {
-                    throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
-                }
-            }
+        if (model.hasOverlappingSessionOtherThan(editedSession, sessionToEdit)) {
+            throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
         }
 
         model.setSession(sessionToEdit, editedSession);
 
-        if (model.hasAnyScheduleAssociatedWithSession(sessionToEdit)) {
-            model.editSchedulesAssociatedWithSession(sessionToEdit, editedSession);
-        }
-
         return new CommandResult(String.format(MESSAGE_EDIT_SESSION_SUCCESS, editedSession));
     }
 
@@ -3,18 +3,16 @@ package seedu.address.logic.commands.session;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.session.CliSyntax.PREFIX_PERIOD;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.function.Predicate;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionRange;
 
 /**
  * Finds and lists all Sessions in address book regardless of date and time.
@@ -39,24 +37,9 @@ public class ViewSessionCommand extends Command {
     public static final String VALID_FUTURE_SESSIONS_PERIOD = "future";
     public static final String VALID_PAST_SESSIONS_PERIOD = "past";
 
-    public static final Predicate<Session> PREDICATE_SHOW_UPCOMING_WEEK_SESSIONS = (session) ->
-            session.getStartTime().isBefore(LocalDateTime.now().truncatedTo(DAYS).plusDays(8).minusMinutes(1))
-                    && session.getStartTime().isAfter(LocalDateTime.now().truncatedTo(DAYS));
-    public static final Predicate<Session> PREDICATE_SHOW_FUTURE_SESSIONS = (session) ->
-            session.getStartTime().isAfter(LocalDateTime.now());
-    public static final Predicate<Session> PREDICATE_SHOW_PAST_SESSIONS = (session) ->
-            session.getEndTime().isBefore(LocalDateTime.now());
+    public static final Set<String> VALID_FIXED_PERIODS = Set.of(VALID_WEEK_SESSIONS_PERIOD,
+            VALID_ALL_SESSIONS_PERIOD, VALID_FUTURE_SESSIONS_PERIOD, VALID_PAST_SESSIONS_PERIOD);
 
-    /**
-     * Uses a hashmap to get the corresponding predicate for the period specified.
-     */
-    public static final HashMap<String, Predicate<Session>> PREDICATE_HASH_MAP = new HashMap<>();
-    static {
-        PREDICATE_HASH_MAP.put(VALID_WEEK_SESSIONS_PERIOD, PREDICATE_SHOW_UPCOMING_WEEK_SESSIONS);
-        PREDICATE_HASH_MAP.put(VALID_FUTURE_SESSIONS_PERIOD, PREDICATE_SHOW_FUTURE_SESSIONS);
-        PREDICATE_HASH_MAP.put(VALID_PAST_SESSIONS_PERIOD, PREDICATE_SHOW_PAST_SESSIONS);
-        PREDICATE_HASH_MAP.put(VALID_ALL_SESSIONS_PERIOD, PREDICATE_SHOW_ALL_SESSIONS);
-    }
     private String period;
 
     /** Creates a ViewSessionCommand.
@@ -75,7 +58,7 @@ public class ViewSessionCommand extends Command {
      * @return true if period is valid, false otherwise.
      */
     public static boolean isValidPeriod(String period) {
-        return PREDICATE_HASH_MAP.containsKey(period) || VALID_PATTERN.matcher(period).matches();
+        return VALID_FIXED_PERIODS.contains(period) || VALID_PATTERN.matcher(period).matches();
     }
 
     private ChronoUnit getUnitOfTime(char c) {
@@ -98,42 +81,72 @@ public class ViewSessionCommand extends Command {
     }
 
     /**
-     * Returns a Predicate that filters Sessions that starts between current date and a custom date
-     * (inclusive of current date). If custom date is in the past, start from 0000hrs; else, end at 2359hrs.
+     * Returns the range of Sessions that start from today until the end of the 7 days after today.
+     *
+     * @param now the current date and time.
+     */
+    public static SessionRange getUpcomingWeekRange(LocalDateTime now) {
+        LocalDateTime today = now.truncatedTo(DAYS);
+        return SessionRange.startingBetween(today, today.plusDays(8));
+    }
+
+    /**
+     * Returns the range of Sessions that start between today and a custom date, both inclusive.
      *
-     * @param periodAmount amount of temporal unit to offset from current date.
+     * @param now the current date and time.
+     * @param periodAmount amount of temporal unit to offset from today.
      * @param periodUnit type of temporal unit based on ChronoUnit.
-     * @param isPast true if the specified amount of time should be subtracted from current date,
-     *               false if it should be added to current date.
-     * @return the corresponding predicate based on amount and unit of time to offset from current date.
+     * @param isPast true if the specified amount of time should be subtracted from today,
+     *               false if it should be added to today.
+     * @return the corresponding range based on amount and unit of time to offset from today.
      */
-    private static Predicate<Session> getCustomPeriodPredicate(int periodAmount, ChronoUnit periodUnit,
-                                                               boolean isPast) {
+    private static SessionRange getCustomPeriodRange(LocalDateTime now, int periodAmount, ChronoUnit periodUnit,
+                                                     boolean isPast) {
         assert(periodUnit != null);
+        LocalDateTime today = now.truncatedTo(DAYS);
         if (isPast) {
-            return (session) -> session.getStartTime().isAfter(LocalDateTime.now().truncatedTo(DAYS)
-                    .minus(periodAmount, periodUnit))
-                    && session.getStartTime().isBefore(LocalDateTime.now().truncatedTo(DAYS)
-                    .plusDays(1).minusMinutes(1));
+            return SessionRange.startingBetween(today.minus(periodAmount, periodUnit), today.plusDays(1));
         } else {
-            return (session) -> session.getStartTime().isBefore(LocalDateTime.now().truncatedTo(DAYS)
-                    .plus(periodAmount, periodUnit).plusDays(1).minusMinutes(1))
-                    && session.getStartTime().isAfter(LocalDateTime.now().truncatedTo(DAYS));
+            return SessionRange.startingBetween(today, today.plus(periodAmount, periodUnit).plusDays(1));
         }
     }
 
+    /**
+     * Returns the range of Sessions in the period, with its bounds worked out from {@code now}.
+     */
+    private SessionRange getRange(LocalDateTime now) {
+        switch (period) {
+        case VALID_WEEK_SESSIONS_PERIOD:
+            return getUpcomingWeekRange(now);
+        case VALID_ALL_SESSIONS_PERIOD:
+            return SessionRange.ALL;
+        case VALID_FUTURE_SESSIONS_PERIOD:
+            return SessionRange.startingAfter(now);
+        case VALID_PAST_SESSIONS_PERIOD:
+            return SessionRange.endingBefore(now);
+        default:
+            boolean isPast = period.charAt(0) == '-';
+            int periodAmount = Integer.parseInt(period.substring(1, period.length() - 1));
+            ChronoUnit periodUnit = getUnitOfTime(period.charAt(period.length() - 1));
+            return getCustomPeriodRange(now, periodAmount, periodUnit, isPast);
+        }
+    }
+
+    /**
+     * Returns true if the period includes sessions before today, which may not have been loaded yet.
+     */
+    private boolean isIncludingPast() {
+        return period.equals(VALID_PAST_SESSIONS_PERIOD) || period.equals(VALID_ALL_SESSIONS_PERIOD)
+                || period.charAt(0) == '-';
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Predicate<Session> pred = PREDICATE_HASH_MAP.get(period);
-
-        if (pred == null) {
-            boolean isPast = (this.period.charAt(0) == '-') ? true : false;
-            int periodAmount = Integer.parseInt(this.period.substring(1, this.period.length() - 1));
-            ChronoUnit periodUnit = getUnitOfTime(this.period.charAt(this.period.length() - 1));
-            pred = getCustomPeriodPredicate(periodAmount, periodUnit, isPast);
+        if (isIncludingPast()) {
+            model.loadHistory();
         }
-        model.updateFilteredSessionList(pred);
+        model.updateSessionRange(getRange(LocalDateTime.now()));
         return new CommandResult(String.format(MESSAGE_SHOW_SESSIONS_SUCCESS, period));
     }
 
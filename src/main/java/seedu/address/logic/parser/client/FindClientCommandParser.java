@@ -1,13 +1,26 @@
 package seedu.address.logic.parser.client;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.client.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.commands.client.FindClientCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.client.NameContainsSubstringPredicate;
+import seedu.address.model.client.ClientSearchCriteria;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindClientCommand object
@@ -17,18 +30,44 @@ public class FindClientCommandParser implements Parser<FindClientCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindClientCommand
      * and returns a FindClientCommand object for execution.
+     * Every word before the first prefix is a name keyword.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindClientCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+
+        List<String> nameKeywords = new ArrayList<>();
+        String preamble = argMultimap.getPreamble().trim();
+        if (!preamble.isEmpty()) {
+            nameKeywords.addAll(Arrays.asList(preamble.split("\\s+")));
+        }
+        nameKeywords.addAll(getKeywords(argMultimap, PREFIX_NAME));
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        ClientSearchCriteria criteria = new ClientSearchCriteria(nameKeywords, getKeywords(argMultimap, PREFIX_PHONE),
+                getKeywords(argMultimap, PREFIX_EMAIL), getKeywords(argMultimap, PREFIX_ADDRESS), tags);
+        if (criteria.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
         }
+        return new FindClientCommand(criteria);
+    }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-
-        return new FindClientCommand(new NameContainsSubstringPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Returns the trimmed values of {@code prefix}, each of which is one keyword.
+     * @throws ParseException if any of the values is empty
+     */
+    private static List<String> getKeywords(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(prefix)) {
+            if (value.isBlank()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
+            }
+            keywords.add(value.trim());
+        }
+        return keywords;
     }
 
 }
@@ -3,15 +3,30 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientSearchCriteria;
+import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.exceptions.DuplicateEntityException;
+import seedu.address.model.exceptions.EntityNotFoundException;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.session.Interval;
 import seedu.address.model.session.Session;
+import seedu.address.model.session.UniqueSessionList;
 
 /**
  * Wraps all data at the address-book level
@@ -19,10 +34,23 @@ import seedu.address.model.session.Session;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
-    private final UniqueList<Client> clients;
-    private final UniqueList<Session> sessions;
+    private final UniqueClientList clients;
+    private final UniqueSessionList sessions;
     private final UniqueList<Schedule> schedules;
 
+    private IdRegistry<Client> clientIds = new IdRegistry<>();
+    private IdRegistry<Session> sessionIds = new IdRegistry<>();
+
+    // Adjacency indexes over the schedule list, keyed by client and session id and kept in sync by every
+    // schedule-level operation below.
+    private final Map<Long, List<Schedule>> schedulesByClient = new HashMap<>();
+    private final Map<Long, List<Schedule>> schedulesBySession = new HashMap<>();
+
+    // Incremented by every operation that modifies the address book
+    private long version;
+    // What every operation that modifies the address book has changed since the changes were last taken
+    private AddressBookChanges changes = new AddressBookChanges();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -31,9 +59,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        clients = new UniqueList<>();
-        sessions = new UniqueList<>();
-        schedules = new UniqueList<>();
+        clients = new UniqueClientList();
+        sessions = new UniqueSessionList();
+        schedules = new UniqueList<>(new KeyedIdentityIndex<>((Schedule schedule) ->
+                List.of(schedule.getClientId(), schedule.getSessionId())));
     }
 
     public AddressBook() {}
@@ -53,7 +82,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code Clients} must not contain duplicate Clients.
      */
     public void setClients(List<Client> clients) {
-        this.clients.setAll(clients);
+        IdRegistry<Client> newClientIds = new IdRegistry<>();
+        this.clients.setAll(newClientIds.registerAll(clients));
+        clientIds = newClientIds;
+        version++;
+        changes.replaceAll();
     }
 
     /**
@@ -64,9 +97,29 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         setClients(newData.getClientList());
         setSessions(newData.getSessionList());
+        sessionIds.reserveUpTo(newData.getLastSessionId());
         setSchedules(newData.getScheduleList());
     }
 
+    /**
+     * Adds the sessions and schedules of {@code history}, which were left out of this address book, all at once.
+     * Its sessions must not overlap or share ids with the sessions in this address book, and the clients of its
+     * schedules must exist in this address book, where they are looked up by id.
+     */
+    public void addHistory(ReadOnlyAddressBook history) {
+        requireNonNull(history);
+
+        long lastSessionId = getLastSessionId();
+        List<Session> allSessions = new ArrayList<>(history.getSessionList());
+        allSessions.addAll(sessions.asUnmodifiableObservableList());
+        setSessions(allSessions);
+        sessionIds.reserveUpTo(lastSessionId);
+
+        List<Schedule> allSchedules = new ArrayList<>(history.getScheduleList());
+        allSchedules.addAll(schedules.asUnmodifiableObservableList());
+        setSchedules(allSchedules);
+    }
+
     //// Client-level operations
 
     /**
@@ -77,23 +130,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         return clients.contains(client);
     }
 
+    /**
+     * Returns the Client with the given {@code id}, if it exists in the address book.
+     */
+    public Optional<Client> getClientById(long id) {
+        return clientIds.get(id);
+    }
+
     /**
      * Adds a Client to the address book.
      * The Client must not already exist in the address book.
+     * It keeps its id if no other Client in the address book has it, and is given a new id otherwise.
      */
     public void addClient(Client p) {
-        clients.add(p);
+        requireNonNull(p);
+        if (clients.contains(p)) {
+            throw new DuplicateEntityException();
+        }
+        Client identifiedClient = clientIds.register(p);
+        clients.add(identifiedClient);
+        version++;
+        changes.putClient(identifiedClient);
     }
 
     /**
-     * Replaces the given Client {@code target} in the list with {@code editedClient}.
+     * Replaces the given Client {@code target} in the list with {@code editedClient}, which takes over the id of
+     * {@code target}. Schedules associated with {@code target} are associated with {@code editedClient} instead.
      * {@code target} must exist in the address book.
      * The Client identity of {@code editedClient} must not be the same as another existing Client in the address book.
      */
     public void setClient(Client target, Client editedClient) {
-        requireNonNull(editedClient);
+        requireAllNonNull(target, editedClient);
 
-        clients.set(target, editedClient);
+        Client storedTarget = findStoredClient(target).orElseThrow(EntityNotFoundException::new);
+        Client identifiedClient = editedClient.withId(storedTarget.getId());
+        clients.set(storedTarget, identifiedClient);
+        clientIds.replace(storedTarget, identifiedClient);
+        version++;
+        changes.putClient(identifiedClient);
+
+        Map<Schedule, Schedule> editedSchedules = new LinkedHashMap<>();
+        for (Schedule schedule : getAssociatedSchedules(schedulesByClient, storedTarget.getId())) {
+            editedSchedules.put(schedule, schedule.setClient(identifiedClient));
+        }
+        replaceStoredSchedules(editedSchedules);
     }
 
     /**
@@ -101,7 +181,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeClient(Client key) {
-        clients.remove(key);
+        requireNonNull(key);
+        Client storedKey = findStoredClient(key).orElseThrow(EntityNotFoundException::new);
+        clients.remove(storedKey);
+        clientIds.unregister(storedKey);
+        version++;
+        changes.removeClient(storedKey);
+    }
+
+    /**
+     * Returns the ids of the Clients that match {@code criteria}.
+     */
+    public Set<Long> findClientIds(ClientSearchCriteria criteria) {
+        requireNonNull(criteria);
+        return clients.findIds(criteria);
+    }
+
+    /**
+     * Returns the Client in the address book that {@code client} refers to: the Client with the same id and identity if
+     * {@code client} has been stored in this address book, or else the Client equal to {@code client}.
+     * A Client carrying the id of an unrelated Client, such as one from another address book, is not mistaken for it.
+     */
+    private Optional<Client> findStoredClient(Client client) {
+        Optional<Client> clientWithSameId = clientIds.get(client.getId()).filter(client::isIdentical);
+        if (clientWithSameId.isPresent()) {
+            return clientWithSameId;
+        }
+        return clients.findIdentical(client).filter(client::equals);
     }
 
     //=============================== SESSION-RELATED ===========================================
@@ -111,8 +217,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code Sessions} must not contain duplicate Sessions.
      */
     public void setSessions(List<Session> sessions) {
-        this.sessions.setAll(sessions);
-        this.sessions.sort();
+        IdRegistry<Session> newSessionIds = new IdRegistry<>();
+        this.sessions.setAll(newSessionIds.registerAll(sessions));
+        sessionIds = newSessionIds;
+        version++;
+        changes.replaceAll();
     }
 
     //// Client-level operations
@@ -125,23 +234,67 @@ public class AddressBook implements ReadOnlyAddressBook {
         return sessions.contains(session);
     }
 
+    /**
+     * Returns every Session whose interval overlaps {@code interval}, in ascending start time order.
+     */
+    public List<Session> findOverlappingSessions(Interval interval) {
+        requireNonNull(interval);
+        return sessions.findOverlapping(interval);
+    }
+
+    /**
+     * Returns every Session that takes place on any day from {@code firstDay} until, but not including,
+     * {@code endDay}, in ascending start time order.
+     */
+    public List<Session> findSessionsBetween(LocalDate firstDay, LocalDate endDay) {
+        requireAllNonNull(firstDay, endDay);
+        return sessions.findBetween(firstDay, endDay);
+    }
+
+    /**
+     * Returns the Session with the given {@code id}, if it exists in the address book.
+     */
+    public Optional<Session> getSessionById(long id) {
+        return sessionIds.get(id);
+    }
+
     /**
      * Adds a Session to the session list.
      * The Session must not already exist in the session list.
+     * It keeps its id if no other Session in the address book has it, and is given a new id otherwise.
      */
     public void addSession(Session s) {
-        sessions.add(s);
+        requireNonNull(s);
+        if (sessions.contains(s)) {
+            throw new DuplicateEntityException();
+        }
+        Session identifiedSession = sessionIds.register(s);
+        sessions.add(identifiedSession);
+        version++;
+        changes.putSession(identifiedSession);
     }
 
     /**
-     * Replaces the given Session {@code target} in the list with {@code editedSession}.
+     * Replaces the given Session {@code target} in the list with {@code editedSession}, which takes over the id of
+     * {@code target}. Schedules associated with {@code target} are associated with {@code editedSession} instead.
      * {@code target} must exist in the address book.
      * The Session identity of {@code editedSession} must not be the same as another existing Session.
      */
     public void setSession(Session target, Session editedSession) {
-        requireNonNull(editedSession);
+        requireAllNonNull(target, editedSession);
+
+        Session storedTarget = findStoredSession(target).orElseThrow(EntityNotFoundException::new);
+        Session identifiedSession = editedSession.withId(storedTarget.getId());
+        sessions.set(storedTarget, identifiedSession);
+        sessionIds.replace(storedTarget, identifiedSession);
+        version++;
+        changes.putSession(identifiedSession);
 
-        sessions.set(target, editedSession);
+        Map<Schedule, Schedule> editedSchedules = new LinkedHashMap<>();
+        for (Schedule schedule : getAssociatedSchedules(schedulesBySession, storedTarget.getId())) {
+            editedSchedules.put(schedule, schedule.setSession(identifiedSession));
+        }
+        replaceStoredSchedules(editedSchedules);
     }
 
     /**
@@ -149,14 +302,27 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the session list.
      */
     public void removeSession(Session key) {
-        sessions.remove(key);
+        requireNonNull(key);
+        Session storedKey = findStoredSession(key).orElseThrow(EntityNotFoundException::new);
+        sessions.remove(storedKey);
+        sessionIds.unregister(storedKey);
+        version++;
+        changes.removeSession(storedKey);
     }
 
     /**
-     * Sorts {@code session} from this {@code SessionList} in ascending startDate order.
+     * Returns the Session in the address book that {@code session} refers to: the Session with the same id and
+     * identity if {@code session} has been stored in this address book, or else the Session equal to
+     * {@code session}.
+     * A Session carrying the id of an unrelated Session, such as one from another address book, is not mistaken
+     * for it.
      */
-    public void sortSession() {
-        sessions.sort();
+    private Optional<Session> findStoredSession(Session session) {
+        Optional<Session> sessionWithSameId = sessionIds.get(session.getId()).filter(session::isIdentical);
+        if (sessionWithSameId.isPresent()) {
+            return sessionWithSameId;
+        }
+        return sessions.findIdentical(session).filter(session::equals);
     }
 
     //=============================== SCHEDULE-RELATED ===========================================
@@ -164,9 +330,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the Schedule list with {@code schedules}.
      * {@code Schedule} must not contain duplicate Schedules.
+     * The client and session of every Schedule must exist in the address book.
      */
     public void setSchedules(List<Schedule> schedules) {
-        this.schedules.setAll(schedules);
+        requireNonNull(schedules);
+        List<Schedule> storedSchedules = new ArrayList<>(schedules.size());
+        for (Schedule schedule : schedules) {
+            storedSchedules.add(toStoredSchedule(schedule).orElseThrow(EntityNotFoundException::new));
+        }
+        this.schedules.setAll(storedSchedules);
+
+        schedulesByClient.clear();
+        schedulesBySession.clear();
+        this.schedules.forEach(this::indexSchedule);
+        version++;
+        changes.replaceAll();
     }
 
     /**
@@ -174,26 +352,59 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasSchedule(Schedule schedule) {
         requireNonNull(schedule);
-        return schedules.contains(schedule);
+        return toStoredSchedule(schedule).map(schedules::contains).orElse(false);
     }
 
     /**
      * Adds a Schedule to the schedule list.
-     * The Schedule must not already exist in the Schedule List.
+     * The Schedule must not already exist in the Schedule List, and its client and session must exist in the
+     * address book.
      */
     public void addSchedule(Schedule schedule) {
-        schedules.add(schedule);
+        requireNonNull(schedule);
+        Schedule storedSchedule = toStoredSchedule(schedule).orElseThrow(EntityNotFoundException::new);
+        schedules.add(storedSchedule);
+        indexSchedule(storedSchedule);
+        version++;
+        changes.putSchedule(storedSchedule);
     }
 
     /**
      * Replaces the given Schedule {@code target} in the list with {@code editedSchedule}.
-     * {@code target} must exist in the address book.
+     * {@code target} must exist in the address book, and the client and session of {@code editedSchedule} must
+     * exist in the address book.
      * The Schedule identity of {@code editedSchedule} must not be the same as another existing Schedule.
      */
     public void setSchedule(Schedule target, Schedule editedSchedule) {
-        requireNonNull(editedSchedule);
+        requireAllNonNull(target, editedSchedule);
+
+        Schedule storedTarget = toStoredSchedule(target).orElseThrow(EntityNotFoundException::new);
+        Schedule storedEditedSchedule = toStoredSchedule(editedSchedule).orElseThrow(EntityNotFoundException::new);
+        replaceSchedule(storedTarget, storedEditedSchedule);
+        version++;
+        changes.removeSchedule(storedTarget);
+        changes.putSchedule(storedEditedSchedule);
+    }
+
+    /**
+     * Replaces each key of {@code editedSchedules} with its value all at once, as a single change to the schedule
+     * list. Every key must exist in the address book, and the clients and sessions of every value must exist in
+     * the address book.
+     * The Schedule identity of each value must not be the same as another value, or another existing Schedule that
+     * is not replaced.
+     */
+    public void replaceSchedules(Map<Schedule, Schedule> editedSchedules) {
+        requireNonNull(editedSchedules);
 
-        schedules.set(target, editedSchedule);
+        Map<Schedule, Schedule> storedEditedSchedules = new LinkedHashMap<>();
+        editedSchedules.forEach((target, editedSchedule) -> storedEditedSchedules.put(
+                toStoredSchedule(target).orElseThrow(EntityNotFoundException::new),
+                toStoredSchedule(editedSchedule).orElseThrow(EntityNotFoundException::new)));
+        replaceStoredSchedules(storedEditedSchedules);
+        version++;
+        // All removed before any is put, as a Schedule may take the place of another one that is replaced
+        storedEditedSchedules.keySet().forEach(changes::removeSchedule);
+        storedEditedSchedules.values().forEach(changes::putSchedule);
     }
 
     /**
@@ -201,11 +412,175 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the schedule list.
      */
     public void removeSchedule(Schedule key) {
-        schedules.remove(key);
+        requireNonNull(key);
+        Schedule storedKey = toStoredSchedule(key).orElseThrow(EntityNotFoundException::new);
+        schedules.remove(storedKey);
+        unindexSchedule(schedulesByClient, storedKey, storedKey.getClientId());
+        unindexSchedule(schedulesBySession, storedKey, storedKey.getSessionId());
+        version++;
+        changes.removeSchedule(storedKey);
+    }
+
+    /**
+     * Removes every Schedule in {@code keys} all at once, as a single change to the schedule list.
+     * Every Schedule in {@code keys} must exist in the schedule list.
+     */
+    public void removeSchedules(Collection<Schedule> keys) {
+        requireNonNull(keys);
+        List<Schedule> storedKeys = new ArrayList<>(keys.size());
+        for (Schedule key : keys) {
+            storedKeys.add(toStoredSchedule(key).orElseThrow(EntityNotFoundException::new));
+        }
+        schedules.removeAll(storedKeys);
+        unindexSchedules(schedulesByClient, storedKeys, Schedule::getClientId);
+        unindexSchedules(schedulesBySession, storedKeys, Schedule::getSessionId);
+        version++;
+        storedKeys.forEach(changes::removeSchedule);
+    }
+
+    /**
+     * Returns {@code schedule} referring to the Client and Session stored in this address book, or an empty
+     * {@code Optional} if either of them is not in the address book.
+     */
+    private Optional<Schedule> toStoredSchedule(Schedule schedule) {
+        Optional<Client> storedClient = findStoredClient(schedule.getClient());
+        Optional<Session> storedSession = findStoredSession(schedule.getSession());
+        if (storedClient.isEmpty() || storedSession.isEmpty()) {
+            return Optional.empty();
+        }
+        if (storedClient.get() == schedule.getClient() && storedSession.get() == schedule.getSession()) {
+            return Optional.of(schedule);
+        }
+        return Optional.of(schedule.setClient(storedClient.get()).setSession(storedSession.get()));
+    }
+
+    private void replaceSchedule(Schedule storedTarget, Schedule storedEditedSchedule) {
+        schedules.set(storedTarget, storedEditedSchedule);
+        reindexSchedule(schedulesByClient, storedTarget, storedEditedSchedule, Schedule::getClientId);
+        reindexSchedule(schedulesBySession, storedTarget, storedEditedSchedule, Schedule::getSessionId);
+    }
+
+    private void replaceStoredSchedules(Map<Schedule, Schedule> storedEditedSchedules) {
+        schedules.replaceAll(storedEditedSchedules);
+        reindexSchedules(schedulesByClient, storedEditedSchedules, Schedule::getClientId);
+        reindexSchedules(schedulesBySession, storedEditedSchedules, Schedule::getSessionId);
+    }
+
+    private void indexSchedule(Schedule schedule) {
+        schedulesByClient.computeIfAbsent(schedule.getClientId(), unused -> new ArrayList<>()).add(schedule);
+        schedulesBySession.computeIfAbsent(schedule.getSessionId(), unused -> new ArrayList<>()).add(schedule);
+    }
+
+    private static <K> void unindexSchedule(Map<K, List<Schedule>> index, Schedule schedule, K key) {
+        List<Schedule> associatedSchedules = index.get(key);
+        associatedSchedules.remove(schedule);
+        if (associatedSchedules.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Removes {@code removedSchedules} from {@code index}, going through each bucket they are filed under once.
+     */
+    private static <K> void unindexSchedules(Map<K, List<Schedule>> index, Collection<Schedule> removedSchedules,
+                                             Function<Schedule, K> keyExtractor) {
+        Map<K, Set<Schedule>> removedSchedulesByKey = new HashMap<>();
+        for (Schedule schedule : removedSchedules) {
+            removedSchedulesByKey.computeIfAbsent(keyExtractor.apply(schedule), unused -> new HashSet<>())
+                    .add(schedule);
+        }
+        removedSchedulesByKey.forEach((key, schedulesOfKey) -> {
+            List<Schedule> associatedSchedules = index.get(key);
+            associatedSchedules.removeAll(schedulesOfKey);
+            if (associatedSchedules.isEmpty()) {
+                index.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Replaces each key of {@code editedSchedules} with its value in {@code index}, keeping the positions of the
+     * schedules that stay under the same key, and going through each bucket once.
+     */
+    private static <K> void reindexSchedules(Map<K, List<Schedule>> index, Map<Schedule, Schedule> editedSchedules,
+                                             Function<Schedule, K> keyExtractor) {
+        Map<Schedule, Schedule> schedulesInPlace = new HashMap<>();
+        Set<K> keysInPlace = new HashSet<>();
+        Map<Schedule, Schedule> movedSchedules = new LinkedHashMap<>();
+        editedSchedules.forEach((target, editedSchedule) -> {
+            K key = keyExtractor.apply(target);
+            if (key.equals(keyExtractor.apply(editedSchedule))) {
+                schedulesInPlace.put(target, editedSchedule);
+                keysInPlace.add(key);
+            } else {
+                movedSchedules.put(target, editedSchedule);
+            }
+        });
+
+        for (K key : keysInPlace) {
+            index.get(key).replaceAll(schedule -> schedulesInPlace.getOrDefault(schedule, schedule));
+        }
+        unindexSchedules(index, movedSchedules.keySet(), keyExtractor);
+        movedSchedules.values().forEach(schedule ->
+                index.computeIfAbsent(keyExtractor.apply(schedule), unused -> new ArrayList<>()).add(schedule));
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedSchedule} in {@code index}, keeping its position within its
+     * bucket if both are filed under the same key.
+     */
+    private static <K> void reindexSchedule(Map<K, List<Schedule>> index, Schedule target, Schedule editedSchedule,
+                                            Function<Schedule, K> keyExtractor) {
+        K oldKey = keyExtractor.apply(target);
+        K newKey = keyExtractor.apply(editedSchedule);
+        if (oldKey.equals(newKey)) {
+            List<Schedule> associatedSchedules = index.get(oldKey);
+            associatedSchedules.set(associatedSchedules.indexOf(target), editedSchedule);
+            return;
+        }
+        unindexSchedule(index, target, oldKey);
+        index.computeIfAbsent(newKey, unused -> new ArrayList<>()).add(editedSchedule);
+    }
+
+    /**
+     * Returns the schedules filed under {@code key} in {@code index}, or an empty list if there are none.
+     */
+    private static <K> List<Schedule> getAssociatedSchedules(Map<K, List<Schedule>> index, K key) {
+        return index.getOrDefault(key, Collections.emptyList());
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getLastSessionId() {
+        return sessionIds.getLastId();
+    }
+
+    /**
+     * Keeps the ids up to {@code lastSessionId} from being given to new Sessions, as they belong to Sessions that
+     * were left out of this address book.
+     */
+    public void reserveSessionIds(long lastSessionId) {
+        sessionIds.reserveUpTo(lastSessionId);
+    }
+
+    /**
+     * Returns what has changed since the changes were last taken, or since the address book was created, and starts
+     * recording the changes afresh.
+     * Schedules whose client or session is edited are not recorded as changed, as saved schedules refer to them by
+     * id.
+     */
+    public AddressBookChanges takeChanges() {
+        AddressBookChanges takenChanges = changes;
+        changes = new AddressBookChanges();
+        return takenChanges;
+    }
+
     @Override
     public String toString() {
         return String.format("%s\n%s\n%s",
@@ -235,7 +610,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasAnyScheduleAssociatedWithClient(Client client) {
         requireNonNull(client);
-        return schedules.findAnyMatch(schedule -> schedule.getClient().isIdentical(client)).isPresent();
+        return !getSchedulesOf(client).isEmpty();
     }
 
     /**
@@ -243,7 +618,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     boolean hasAnyScheduleAssociatedWithSession(Session session) {
         requireNonNull(session);
-        return schedules.findAnyMatch(schedule -> schedule.getSession().isIdentical(session)).isPresent();
+        return !getSchedulesOf(session).isEmpty();
     }
 
     /**
@@ -252,10 +627,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     boolean hasAnyScheduleAssociatedWithClientAndSession(Client client, Session session) {
         requireAllNonNull(client, session);
-
-        return schedules
-                .findAnyMatch(schedule -> schedule.getClient().equals(client) && schedule.getSession().equals(session))
-                .isPresent();
+        return findScheduleByClientAndSession(client, session) != null;
     }
 
     /**
@@ -264,9 +636,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return A list of clients that are associated to {@code sessionKey} in the {@code ScheduleList}.
      */
     public List<Client> findClientBySession(Session sessionKey) {
-        Stream<Schedule> schedulesContainingSession = schedules.findAllMatch(s-> s.getSession().equals(sessionKey));
-        Stream<Client> clientsInSession = schedulesContainingSession.map(Schedule::getClient);
-        return clientsInSession.collect(Collectors.toList());
+        return getSchedulesOf(sessionKey).stream()
+                .map(Schedule::getClient)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -275,8 +647,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return A list of session that are associated to {@code clientKey} in the {@code ScheduleList}.
      */
     public List<Session> findSessionByClient(Client clientKey) {
-        return findScheduleByClient(clientKey)
-                .stream()
+        return getSchedulesOf(clientKey).stream()
                 .map(Schedule::getSession)
                 .collect(Collectors.toList());
     }
@@ -288,8 +659,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return A list of schedules that are associated to {@code clientKey} in the {@code ScheduleList}.
      */
     public List<Schedule> findScheduleByClient(Client clientKey) {
-        return schedules.findAllMatch(s -> s.getClient().equals(clientKey))
-                .collect(Collectors.toList());
+        return new ArrayList<>(getSchedulesOf(clientKey));
     }
 
     /**
@@ -298,8 +668,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return A list of schedules that are associated to {@code sessionKey} in the {@code ScheduleList}.
      */
     public List<Schedule> findScheduleBySession(Session sessionKey) {
-        Stream<Schedule> schedulesContainingSession = schedules.findAllMatch(s-> s.getSession().equals(sessionKey));
-        return schedulesContainingSession.collect(Collectors.toList());
+        return new ArrayList<>(getSchedulesOf(sessionKey));
+    }
+
+    @Override
+    public List<Schedule> findSchedulesBetween(LocalDate firstDay, LocalDate endDay) {
+        List<Schedule> schedulesBetween = new ArrayList<>();
+        for (Session session : findSessionsBetween(firstDay, endDay)) {
+            schedulesBetween.addAll(getAssociatedSchedules(schedulesBySession, session.getId()));
+        }
+        return schedulesBetween;
     }
 
     /**
@@ -309,9 +687,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code sessionKey} in the {@code ScheduleList}.
      */
     public Schedule findScheduleByClientAndSession(Client clientKey, Session sessionKey) {
-        Optional<Schedule> schedulesContainingClientAndSession = schedules.findAnyMatch(s->
-                s.getClient().equals(clientKey) && s.getSession().equals(sessionKey));
-        return schedulesContainingClientAndSession.orElse(null);
+        Optional<Session> storedSession = findStoredSession(sessionKey);
+        if (storedSession.isEmpty()) {
+            return null;
+        }
+        long sessionId = storedSession.get().getId();
+        return getSchedulesOf(clientKey).stream()
+                .filter(s -> s.getSessionId() == sessionId)
+                .findAny()
+                .orElse(null);
+    }
+
+    /**
+     * Returns the schedules associated with the stored Client that {@code client} refers to.
+     */
+    private List<Schedule> getSchedulesOf(Client client) {
+        return findStoredClient(client)
+                .map(storedClient -> getAssociatedSchedules(schedulesByClient, storedClient.getId()))
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the schedules associated with the stored Session that {@code session} refers to.
+     */
+    private List<Schedule> getSchedulesOf(Session session) {
+        return findStoredSession(session)
+                .map(storedSession -> getAssociatedSchedules(schedulesBySession, storedSession.getId()))
+                .orElse(Collections.emptyList());
     }
 
     @Override
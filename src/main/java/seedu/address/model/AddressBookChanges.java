@@ -0,0 +1,147 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.session.Session;
+
+/**
+ * The clients, sessions and schedules put into and removed from an {@code AddressBook}, recorded where they are
+ * modified, so that only what has changed needs to be saved.
+ * Each client, session and schedule is recorded once, as put or removed, whichever happened last. Whole lists that
+ * are replaced at once are not recorded element by element; the changes replace everything instead.
+ */
+public class AddressBookChanges {
+
+    private final Map<Long, Client> putClients = new LinkedHashMap<>();
+    private final Map<Long, Client> removedClients = new LinkedHashMap<>();
+    private final Map<Long, Session> putSessions = new LinkedHashMap<>();
+    private final Map<Long, Session> removedSessions = new LinkedHashMap<>();
+    private final Map<List<Long>, Schedule> putSchedules = new LinkedHashMap<>();
+    private final Map<List<Long>, Schedule> removedSchedules = new LinkedHashMap<>();
+    private boolean isReplacingAll;
+
+    /**
+     * Returns changes that replace everything, for saving a whole address book.
+     */
+    public static AddressBookChanges replacingAll() {
+        AddressBookChanges changes = new AddressBookChanges();
+        changes.replaceAll();
+        return changes;
+    }
+
+    private static List<Long> getKey(Schedule schedule) {
+        return List.of(schedule.getClientId(), schedule.getSessionId());
+    }
+
+    private static <K, T> void put(Map<K, T> puts, Map<K, T> removals, K key, T element) {
+        removals.remove(key);
+        puts.put(key, element);
+    }
+
+    private static <K, T> void remove(Map<K, T> puts, Map<K, T> removals, K key, T element) {
+        puts.remove(key);
+        removals.put(key, element);
+    }
+
+    /**
+     * Records that {@code client} was added, or replaced the client with the same id.
+     */
+    public void putClient(Client client) {
+        if (!isReplacingAll) {
+            put(putClients, removedClients, client.getId(), client);
+        }
+    }
+
+    public void removeClient(Client client) {
+        if (!isReplacingAll) {
+            remove(putClients, removedClients, client.getId(), client);
+        }
+    }
+
+    /**
+     * Records that {@code session} was added, or replaced the session with the same id.
+     */
+    public void putSession(Session session) {
+        if (!isReplacingAll) {
+            put(putSessions, removedSessions, session.getId(), session);
+        }
+    }
+
+    public void removeSession(Session session) {
+        if (!isReplacingAll) {
+            remove(putSessions, removedSessions, session.getId(), session);
+        }
+    }
+
+    /**
+     * Records that {@code schedule} was added, or replaced the schedule between the same client and session.
+     */
+    public void putSchedule(Schedule schedule) {
+        if (!isReplacingAll) {
+            put(putSchedules, removedSchedules, getKey(schedule), schedule);
+        }
+    }
+
+    public void removeSchedule(Schedule schedule) {
+        if (!isReplacingAll) {
+            remove(putSchedules, removedSchedules, getKey(schedule), schedule);
+        }
+    }
+
+    /**
+     * Records that everything was replaced, which makes the changes recorded one by one irrelevant.
+     */
+    public void replaceAll() {
+        isReplacingAll = true;
+        putClients.clear();
+        removedClients.clear();
+        putSessions.clear();
+        removedSessions.clear();
+        putSchedules.clear();
+        removedSchedules.clear();
+    }
+
+    /**
+     * Returns true if everything was replaced, in which case no changes are recorded one by one.
+     */
+    public boolean isReplacingAll() {
+        return isReplacingAll;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return !isReplacingAll && putClients.isEmpty() && removedClients.isEmpty() && putSessions.isEmpty()
+                && removedSessions.isEmpty() && putSchedules.isEmpty() && removedSchedules.isEmpty();
+    }
+
+    public Collection<Client> getPutClients() {
+        return putClients.values();
+    }
+
+    public Collection<Client> getRemovedClients() {
+        return removedClients.values();
+    }
+
+    public Collection<Session> getPutSessions() {
+        return putSessions.values();
+    }
+
+    public Collection<Session> getRemovedSessions() {
+        return removedSessions.values();
+    }
+
+    public Collection<Schedule> getPutSchedules() {
+        return putSchedules.values();
+    }
+
+    public Collection<Schedule> getRemovedSchedules() {
+        return removedSchedules.values();
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.session.Session;
+
+/**
+ * The changes that turn one address book into another. Clients and sessions are matched by id, and schedules by
+ * the ids of their client and session, so that an edited entity is a change rather than a removal and an addition.
+ * Ids are handed out by each address book on its own, so entities with the same id are only matched if they also
+ * have the same identity, such as the same email for clients. Otherwise, the entity with the id was removed and
+ * another one was added with it, as when another program adds an entity that is given the same id as one added here.
+ */
+public class AddressBookDiff {
+
+    private final List<Client> removedClients = new ArrayList<>();
+    private final Map<Client, Client> changedClients = new LinkedHashMap<>();
+    private final List<Client> addedClients = new ArrayList<>();
+    private final List<Session> removedSessions = new ArrayList<>();
+    private final Map<Session, Session> changedSessions = new LinkedHashMap<>();
+    private final List<Session> addedSessions = new ArrayList<>();
+    private final List<Schedule> removedSchedules = new ArrayList<>();
+    private final Map<Schedule, Schedule> changedSchedules = new LinkedHashMap<>();
+    private final List<Schedule> addedSchedules = new ArrayList<>();
+
+    private AddressBookDiff() {}
+
+    /**
+     * Returns the changes that turn {@code current} into {@code updated}.
+     */
+    public static AddressBookDiff between(ReadOnlyAddressBook current, ReadOnlyAddressBook updated) {
+        requireNonNull(current);
+        requireNonNull(updated);
+
+        AddressBookDiff diff = new AddressBookDiff();
+        compare(current.getClientList(), updated.getClientList(), Client::getId, Client::isIdentical,
+                Client::equals, diff.removedClients, diff.changedClients, diff.addedClients);
+        compare(current.getSessionList(), updated.getSessionList(), Session::getId, Session::isIdentical,
+                Session::equals, diff.removedSessions, diff.changedSessions, diff.addedSessions);
+        // The clients and sessions of schedules are updated along with the clients and sessions themselves
+        compare(current.getScheduleList(), updated.getScheduleList(), (Schedule schedule) ->
+                List.of(schedule.getClientId(), schedule.getSessionId()), AddressBookDiff::hasSameParticipants,
+                AddressBookDiff::hasSameDetails, diff.removedSchedules, diff.changedSchedules, diff.addedSchedules);
+        return diff;
+    }
+
+    private static <T> void compare(List<T> current, List<T> updated, Function<T, Object> idOf,
+            BiPredicate<T, T> isSameEntity, BiPredicate<T, T> isUnchanged, List<T> removed, Map<T, T> changed,
+            List<T> added) {
+        Map<Object, T> currentById = new LinkedHashMap<>();
+        current.forEach(element -> currentById.put(idOf.apply(element), element));
+
+        for (T updatedElement : updated) {
+            T currentElement = currentById.remove(idOf.apply(updatedElement));
+            if (currentElement == null) {
+                added.add(updatedElement);
+            } else if (currentElement == updatedElement) {
+                continue;
+            } else if (!isSameEntity.test(currentElement, updatedElement)) {
+                removed.add(currentElement);
+                added.add(updatedElement);
+            } else if (!isUnchanged.test(currentElement, updatedElement)) {
+                changed.put(currentElement, updatedElement);
+            }
+        }
+        removed.addAll(currentById.values());
+    }
+
+    /**
+     * Returns true if both schedules are between the same client and session, and not between other entities that
+     * were given the same ids.
+     */
+    private static boolean hasSameParticipants(Schedule current, Schedule updated) {
+        return current.getClient().isIdentical(updated.getClient())
+                && current.getSession().isIdentical(updated.getSession());
+    }
+
+    private static boolean hasSameDetails(Schedule current, Schedule updated) {
+        return current.getPaymentStatus().equals(updated.getPaymentStatus())
+                && current.getRemark().equals(updated.getRemark())
+                && current.getWeight().equals(updated.getWeight());
+    }
+
+    /**
+     * Applies the changes to {@code addressBook}, which must have the contents of the current address book, one
+     * entity at a time. Entities are removed before the entities that may take over their identities are edited
+     * or added.
+     *
+     * @throws seedu.address.model.exceptions.DuplicateEntityException if an entity cannot be edited or added
+     *     without taking over the identity of another entity, such as when two clients swap emails.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        addressBook.removeSchedules(removedSchedules);
+        removedClients.forEach(addressBook::removeClient);
+        removedSessions.forEach(addressBook::removeSession);
+        changedClients.forEach(addressBook::setClient);
+        changedSessions.forEach(addressBook::setSession);
+        addedClients.forEach(addressBook::addClient);
+        addedSessions.forEach(addressBook::addSession);
+        addressBook.replaceSchedules(changedSchedules);
+        addedSchedules.forEach(addressBook::addSchedule);
+    }
+
+    public List<Client> getRemovedClients() {
+        return Collections.unmodifiableList(removedClients);
+    }
+
+    /**
+     * Returns the edited clients, as they are in the updated address book.
+     */
+    public Collection<Client> getEditedClients() {
+        return Collections.unmodifiableCollection(changedClients.values());
+    }
+
+    public List<Client> getAddedClients() {
+        return Collections.unmodifiableList(addedClients);
+    }
+
+    public List<Session> getRemovedSessions() {
+        return Collections.unmodifiableList(removedSessions);
+    }
+
+    /**
+     * Returns the edited sessions, as they are in the updated address book.
+     */
+    public Collection<Session> getEditedSessions() {
+        return Collections.unmodifiableCollection(changedSessions.values());
+    }
+
+    public List<Session> getAddedSessions() {
+        return Collections.unmodifiableList(addedSessions);
+    }
+
+    public List<Schedule> getRemovedSchedules() {
+        return Collections.unmodifiableList(removedSchedules);
+    }
+
+    /**
+     * Returns the edited schedules, as they are in the updated address book.
+     */
+    public Collection<Schedule> getEditedSchedules() {
+        return Collections.unmodifiableCollection(changedSchedules.values());
+    }
+
+    public List<Schedule> getAddedSchedules() {
+        return Collections.unmodifiableList(addedSchedules);
+    }
+
+    /**
+     * Returns the number of entities that are removed, edited or added.
+     */
+    public int getChangeCount() {
+        return removedClients.size() + changedClients.size() + addedClients.size()
+                + removedSessions.size() + changedSessions.size() + addedSessions.size()
+                + removedSchedules.size() + changedSchedules.size() + addedSchedules.size();
+    }
+}
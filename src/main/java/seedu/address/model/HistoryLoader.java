@@ -0,0 +1,20 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads the past sessions, and their schedules, that were left out when the address book was first loaded.
+ */
+@FunctionalInterface
+public interface HistoryLoader {
+
+    /**
+     * Returns the sessions and schedules that were left out, together with the clients they are associated with.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    ReadOnlyAddressBook loadHistory() throws DataConversionException, IOException;
+}
@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hands out ids to the entities of an {@code AddressBook} and looks them up by id.
+ * Ids are positive, and every id that a registry hands out is larger than any id it has seen. Elements registered
+ * with an id of their own keep it if no registered element has it, even if it belonged to an element that was
+ * unregistered, so that entities read from storage or changed elsewhere keep the ids that others refer to them by.
+ */
+public class IdRegistry<T extends Identifiable<T>> {
+
+    private static final long FIRST_ID = 1;
+
+    private final Map<Long, T> elementsById = new HashMap<>();
+    private long nextId = FIRST_ID;
+
+    /**
+     * Returns the registered element with the given {@code id}, if any.
+     */
+    public Optional<T> get(long id) {
+        return Optional.ofNullable(elementsById.get(id));
+    }
+
+    /**
+     * Registers {@code element} and returns it with its id.
+     * The element keeps its own id unless it has none or the id is already taken, in which case it is given a
+     * fresh one.
+     */
+    public T register(T element) {
+        requireNonNull(element);
+        long id = element.getId();
+        T identified = id == Identifiable.UNASSIGNED_ID || elementsById.containsKey(id)
+                ? element.withId(nextId)
+                : element;
+        elementsById.put(identified.getId(), identified);
+        nextId = Math.max(nextId, identified.getId() + 1);
+        return identified;
+    }
+
+    /**
+     * Registers every element of {@code elements} and returns them with their ids, in the same order.
+     * Elements that already have distinct ids keep them, even if they come after elements without one.
+     */
+    public List<T> registerAll(List<T> elements) {
+        requireNonNull(elements);
+        for (T element : elements) {
+            nextId = Math.max(nextId, element.getId() + 1);
+        }
+        List<T> identified = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            identified.add(register(element));
+        }
+        return identified;
+    }
+
+    /**
+     * Registers {@code edited} in place of the registered {@code target} and returns it with the id of
+     * {@code target}.
+     */
+    public T replace(T target, T edited) {
+        requireNonNull(edited);
+        assert elementsById.containsKey(target.getId());
+        T identified = edited.getId() == target.getId() ? edited : edited.withId(target.getId());
+        elementsById.put(identified.getId(), identified);
+        return identified;
+    }
+
+    /**
+     * Returns the largest id that has been registered or reserved, or 0 if there is none.
+     */
+    public long getLastId() {
+        return nextId - 1;
+    }
+
+    /**
+     * Keeps the ids up to {@code lastId} from being handed out, as they belong to elements that are not registered,
+     * such as elements that have not been loaded yet.
+     */
+    public void reserveUpTo(long lastId) {
+        nextId = Math.max(nextId, lastId + 1);
+    }
+
+    /**
+     * Forgets the registered {@code element}. Its id is not handed out again, but an element registered with that
+     * id keeps it.
+     */
+    public void unregister(T element) {
+        requireNonNull(element);
+        elementsById.remove(element.getId());
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+/**
+ * An entity that is given a numeric id when it is stored in an {@code AddressBook}.
+ * The id stays the same when the entity is edited, so other entities can refer to it by id.
+ * Ids take no part in equality: two entities with the same fields are equal whatever their ids.
+ */
+public interface Identifiable<T> {
+
+    /**
+     * The id of an entity that has not been stored in an {@code AddressBook} yet.
+     */
+    long UNASSIGNED_ID = 0;
+
+    long getId();
+
+    /**
+     * Returns a copy of this entity with the given {@code id}.
+     */
+    T withId(long id);
+}
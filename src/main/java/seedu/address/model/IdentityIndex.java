@@ -0,0 +1,41 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.exceptions.DuplicateEntityException;
+
+/**
+ * Answers {@link CheckExisting#isIdentical} queries for the elements of a {@link UniqueList}
+ * without scanning the whole list.
+ * The owning {@code UniqueList} reports every element it adds or removes, so the index always mirrors the list.
+ */
+public interface IdentityIndex<T> {
+
+    /**
+     * Returns an element identical to {@code toCheck} that has been added to this index, if any.
+     */
+    Optional<T> findIdentical(T toCheck);
+
+    /**
+     * Checks that no two elements of {@code elements} are identical, without changing this index.
+     *
+     * @throws DuplicateEntityException naming two identical elements if there are any.
+     */
+    void requireUnique(List<? extends T> elements);
+
+    /**
+     * Records {@code element} in this index.
+     */
+    void add(T element);
+
+    /**
+     * Forgets {@code element}, which must have been added to this index before.
+     */
+    void remove(T element);
+
+    /**
+     * Forgets every element in this index.
+     */
+    void clear();
+}
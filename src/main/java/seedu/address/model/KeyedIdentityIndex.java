@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.exceptions.DuplicateEntityException;
+
+/**
+ * An {@code IdentityIndex} for elements whose identity can be expressed as a hashable key,
+ * i.e. two elements are identical if and only if their keys are equal.
+ * Identity checks are answered in constant time.
+ */
+public class KeyedIdentityIndex<T, K> implements IdentityIndex<T> {
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Map<K, T> elementsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index that identifies elements by the key returned by {@code keyExtractor}.
+     */
+    public KeyedIdentityIndex(Function<? super T, ? extends K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public Optional<T> findIdentical(T toCheck) {
+        return Optional.ofNullable(elementsByKey.get(keyExtractor.apply(toCheck)));
+    }
+
+    /**
+     * Checks {@code elements} in one pass, hashing the key of each element.
+     */
+    @Override
+    public void requireUnique(List<? extends T> elements) {
+        Map<K, T> elementsSeen = new HashMap<>(elements.size() * 2);
+        for (T element : elements) {
+            T identicalElement = elementsSeen.putIfAbsent(keyExtractor.apply(element), element);
+            if (identicalElement != null) {
+                throw new DuplicateEntityException(identicalElement, element);
+            }
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        elementsByKey.put(keyExtractor.apply(element), element);
+    }
+
+    @Override
+    public void remove(T element) {
+        elementsByKey.remove(keyExtractor.apply(element));
+    }
+
+    @Override
+    public void clear() {
+        elementsByKey.clear();
+    }
+}
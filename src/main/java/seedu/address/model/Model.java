@@ -7,8 +7,10 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientSearchCriteria;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionRange;
 import seedu.address.model.util.WeightUnit;
 
 /**
@@ -68,6 +70,26 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the clients, sessions and schedules changed since the changes were last taken, or since the model was
+     * created, so that only they need to be saved.
+     */
+    AddressBookChanges takeAddressBookChanges();
+
+    /**
+     * Adds the past sessions, and their schedules, that were left out when the address book was loaded.
+     * Does nothing if they have been added already.
+     */
+    void loadHistory();
+
+    /**
+     * Updates the address book to the contents of {@code addressBook}, by removing, editing and adding only the
+     * clients, sessions and schedules that differ, so that the lists report each of these changes.
+     *
+     * @return the number of clients, sessions and schedules that were removed, edited or added.
+     */
+    int updateAddressBook(ReadOnlyAddressBook addressBook);
+
     /**
      * Returns true if a Client with the same identity as {@code Client} exists in the address book.
      */
@@ -92,6 +114,7 @@ public interface Model {
 
     /**
      * Replaces the given Client {@code target} with {@code editedClient}.
+     * Schedules associated with {@code target} become associated with {@code editedClient}.
      * {@code target} must exist in the address book.
      * The Client identity of {@code editedClient} must not be the same as another existing Client in the address book.
      */
@@ -106,12 +129,24 @@ public interface Model {
      */
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Searches for the Clients that match {@code criteria} in an index of their fields rather than by testing every
+     * Client, and updates the filtered Client list to show them.
+     * @throws NullPointerException if {@code criteria} is null.
+     */
+    void searchClients(ClientSearchCriteria criteria);
+
 
     /**
      * Returns true if a Session with the same identity as {@code Session} exists in the Session List.
      */
     boolean hasSession(Session session);
 
+    /**
+     * Returns true if a Session other than {@code excludedSession} overlaps with {@code session}.
+     */
+    boolean hasOverlappingSessionOtherThan(Session session, Session excludedSession);
+
     /**
      * Deletes every Schedule with the same session as {@code session}.
      */
@@ -131,17 +166,13 @@ public interface Model {
 
     /**
      * Replaces the given Session {@code target} with {@code editedSession}.
+     * Schedules associated with {@code target} become associated with {@code editedSession}.
      * {@code target} must exist in the Session List.
      * The Session identity of {@code editedSession} must not be the same as another existing Session
      *     in the address book.
      */
     void setSession(Session target, Session editedSession);
 
-    /**
-     * Sorts the Session List by session's natural order.
-     */
-    void sortSession();
-
     /** Returns an unmodifiable view of the filtered Session list */
     ObservableList<Session> getFilteredSessionList();
 
@@ -151,6 +182,13 @@ public interface Model {
      */
     void updateFilteredSessionList(Predicate<Session> predicate);
 
+    /**
+     * Updates the filtered Session list to show every Session in {@code range}, which is found by binary search
+     * rather than by testing every Session.
+     * @throws NullPointerException if {@code range} is null.
+     */
+    void updateSessionRange(SessionRange range);
+
     /**
      * Returns true if a Schedule with the same identity as {@code schedule} exists in the Schedule List.
      */
@@ -161,22 +199,11 @@ public interface Model {
      */
     boolean hasAnyScheduleAssociatedWithSession(Session session);
 
-    /**
-     * Edits every Schedule with the same session as {@code sessionToEdit} to be associated with {@code editedSession}
-     * instead.
-     */
-    void editSchedulesAssociatedWithSession(Session sessionToEdit, Session editedSession);
-
     /**
      * Returns true if a Schedule with the same client as {@code client} exists in the Schedule List.
      */
     boolean hasAnyScheduleAssociatedWithClient(Client client);
 
-    /**
-     * Edits every Schedule with the same client as {@code toEdit} to be associated with {@code editedClient} instead.
-     */
-    void editSchedulesAssociatedWithClient(Client toEdit, Client editedClient);
-
     /**
      * Returns true if a Schedule with the same client as {@code client} and session as
      * {@code session} exists in the Schedule List.
@@ -220,12 +247,14 @@ public interface Model {
 
     /**
      * Finds all {@code Sessions} in {@code Schedule List} that are associated to {@code clientKey}.
+     * Past sessions that have not been loaded are left out, so this is only complete for the upcoming sessions.
      * @throws NullPointerException if {@code clientKey} is null.
      */
     List<Session> findSessionByClient(Client clientKey);
 
     /**
      * Finds a {@code Schedule} in {@code Schedule List} that are associated to {@code clientKey}.
+     * Past sessions are loaded first, as this is the whole history of the client.
      * @throws NullPointerException if {@code clientKey} is null.
      */
     List<Schedule> findScheduleByClient(Client clientKey);
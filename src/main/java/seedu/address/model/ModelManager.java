@@ -3,18 +3,30 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientSearchCriteria;
+import seedu.address.model.exceptions.DuplicateEntityException;
+import seedu.address.model.exceptions.EntityNotFoundException;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionRange;
+import seedu.address.model.session.SessionRangeList;
 import seedu.address.model.util.WeightUnit;
 
 /**
@@ -26,25 +38,47 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Client> filteredClients;
+    private final Set<Long> searchedClientIds = new HashSet<>();
+    private ClientSearchCriteria clientSearchCriteria;
+    private final SessionRangeList sessionsInRange;
     private final FilteredList<Session> filteredSessions;
     private final FilteredList<Schedule> filteredSchedules;
+    private HistoryLoader historyLoader;
+    private LocalDate firstLoadedDay;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, null, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, which leaves out the sessions starting before
+     * {@code firstLoadedDay} that are added from {@code historyLoader} the first time they are needed, and
+     * userPrefs.
+     * {@code firstLoadedDay} and {@code historyLoader} are null if the addressBook has every session.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, LocalDate firstLoadedDay,
+            HistoryLoader historyLoader) {
         super();
         requireAllNonNull(addressBook, userPrefs);
+        assert (firstLoadedDay == null) == (historyLoader == null);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        // Copying the address book it starts with is not a change
+        this.addressBook.takeChanges();
         this.userPrefs = new UserPrefs(userPrefs);
+        // Added before the filtered list's own listener, so the searched ids are updated before it filters changes
+        this.addressBook.getClientList().addListener((ListChangeListener<Client>) this::updateSearchedClientIds);
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
-        filteredSessions = new FilteredList<>(this.addressBook.getSessionList());
+        sessionsInRange = new SessionRangeList(this.addressBook.getSessionList());
+        filteredSessions = new FilteredList<>(sessionsInRange);
         filteredSchedules = new FilteredList<>(this.addressBook.getScheduleList());
-
-        sortSession();
+        this.historyLoader = historyLoader;
+        this.firstLoadedDay = firstLoadedDay;
     }
 
     public ModelManager() {
@@ -101,6 +135,8 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        // The past sessions are loaded first so that the storage knows to replace them as well
+        loadHistory();
         this.addressBook.resetData(addressBook);
     }
 
@@ -109,6 +145,51 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookChanges takeAddressBookChanges() {
+        return addressBook.takeChanges();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Past sessions are needed to check sessions that start before the loaded ones for overlaps, to find every
+     * schedule of a client, and to remove or replace everything associated with a client, so they are loaded before
+     * any of these. If they cannot be read, the address book is left without them.
+     */
+    @Override
+    public void loadHistory() {
+        if (historyLoader == null) {
+            return;
+        }
+
+        try {
+            ReadOnlyAddressBook history = historyLoader.loadHistory();
+            historyLoader = null;
+            firstLoadedDay = null;
+            logger.info("Loaded " + history.getSessionList().size() + " past sessions");
+            addressBook.addHistory(history);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to load past sessions: " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public int updateAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        // The past sessions are in the updated address book, so they need not be loaded separately
+        historyLoader = null;
+        firstLoadedDay = null;
+        AddressBookDiff diff = AddressBookDiff.between(this.addressBook, addressBook);
+        try {
+            diff.applyTo(this.addressBook);
+        } catch (DuplicateEntityException | EntityNotFoundException e) {
+            logger.info("Changes cannot be applied one at a time, replacing the whole address book");
+            this.addressBook.resetData(addressBook);
+        }
+        return diff.getChangeCount();
+    }
+
     @Override
     public boolean hasClient(Client client) {
         requireNonNull(client);
@@ -118,12 +199,10 @@ public class ModelManager implements Model {
     @Override
     public void deleteClientAssociatedSchedules(Client client) {
         requireNonNull(client);
+        loadHistory();
 
         List<Schedule> associatedSchedules = addressBook.findScheduleByClient(client);
-
-        for (Schedule schedule : associatedSchedules) {
-            this.deleteSchedule(schedule);
-        }
+        addressBook.removeSchedules(associatedSchedules);
 
         logger.info(String.format("User force delete Client %s\n causing %d schedules to be deleted",
                 client.toString(),
@@ -132,6 +211,7 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteClient(Client target) {
+        loadHistory();
         addressBook.removeClient(target);
     }
 
@@ -162,26 +242,78 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
+        clientSearchCriteria = null;
+        searchedClientIds.clear();
         filteredClients.setPredicate(predicate);
     }
 
+    /**
+     * {@inheritDoc}
+     * The Clients shown stay up to date with the search as Clients are added, edited and removed afterwards.
+     */
+    @Override
+    public void searchClients(ClientSearchCriteria criteria) {
+        requireNonNull(criteria);
+        clientSearchCriteria = criteria;
+        searchedClientIds.clear();
+        searchedClientIds.addAll(addressBook.findClientIds(criteria));
+        filteredClients.setPredicate(client -> searchedClientIds.contains(client.getId()));
+    }
+
+    /**
+     * Updates the ids of the Clients that match the current search with the Clients changed in {@code change}, so
+     * that only the changed Clients are tested against the search.
+     */
+    private void updateSearchedClientIds(ListChangeListener.Change<? extends Client> change) {
+        if (clientSearchCriteria == null) {
+            return;
+        }
+
+        while (change.next()) {
+            for (Client removed : change.getRemoved()) {
+                searchedClientIds.remove(removed.getId());
+            }
+            for (Client added : change.getAddedSubList()) {
+                if (clientSearchCriteria.test(added)) {
+                    searchedClientIds.add(added.getId());
+                }
+            }
+        }
+    }
+
     //=========== SessionList ================================================================================
 
+    /**
+     * Loads the past sessions if {@code session} could overlap any of them, which is if it starts before the day
+     * after the first loaded day. Past sessions are taken to end within the first loaded day.
+     */
+    private void loadHistoryOverlapping(Session session) {
+        if (historyLoader != null && session.getStartTime().isBefore(firstLoadedDay.plusDays(1).atStartOfDay())) {
+            loadHistory();
+        }
+    }
+
     @Override
     public boolean hasSession(Session session) {
         requireNonNull(session);
+        loadHistoryOverlapping(session);
         return addressBook.hasSession(session);
     }
 
+    @Override
+    public boolean hasOverlappingSessionOtherThan(Session session, Session excludedSession) {
+        requireAllNonNull(session, excludedSession);
+        loadHistoryOverlapping(session);
+        return addressBook.findOverlappingSessions(session.getInterval()).stream()
+                .anyMatch(overlappingSession -> !overlappingSession.equals(excludedSession));
+    }
+
     @Override
     public void deleteSessionAssociatedSchedules(Session session) {
         requireNonNull(session);
 
         List<Schedule> associatedSchedules = addressBook.findScheduleBySession(session);
-
-        for (Schedule schedule : associatedSchedules) {
-            this.deleteSchedule(schedule);
-        }
+        addressBook.removeSchedules(associatedSchedules);
 
         logger.info(String.format("User force delete Session %s\n causing %d schedules to be deleted",
                 session.toString(),
@@ -194,22 +326,21 @@ public class ModelManager implements Model {
         addressBook.removeSession(session);
     }
 
+    /**
+     * {@inheritDoc}
+     * The address book keeps the ids of past sessions that have not been loaded from being given to the Session.
+     */
     @Override
     public void addSession(Session session) {
+        loadHistoryOverlapping(session);
         addressBook.addSession(session);
-        sortSession();
     }
 
     @Override
     public void setSession(Session target, Session editedSession) {
         requireAllNonNull(target, editedSession);
+        loadHistoryOverlapping(editedSession);
         addressBook.setSession(target, editedSession);
-        sortSession();
-    }
-
-    @Override
-    public void sortSession() {
-        addressBook.sortSession();
     }
 
     //=========== Filtered Session List Accessors =============================================================
@@ -222,8 +353,15 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredSessionList(Predicate<Session> predicate) {
         requireNonNull(predicate);
+        sessionsInRange.setRange(SessionRange.ALL);
         filteredSessions.setPredicate(predicate);
-        sortSession();
+    }
+
+    @Override
+    public void updateSessionRange(SessionRange range) {
+        requireNonNull(range);
+        filteredSessions.setPredicate(PREDICATE_SHOW_ALL_SESSIONS);
+        sessionsInRange.setRange(range);
     }
 
     //=========== Schedule List ===============================================================================
@@ -239,22 +377,10 @@ public class ModelManager implements Model {
      */
     public boolean hasAnyScheduleAssociatedWithClient(Client client) {
         requireNonNull(client);
+        loadHistory();
         return addressBook.hasAnyScheduleAssociatedWithClient(client);
     }
 
-    /**
-     * Edits every Schedule with the same client as {@code toEdit} to be associated with {@code editedClient} instead.
-     */
-    public void editSchedulesAssociatedWithClient(Client clientToEdit, Client editedClient) {
-        requireAllNonNull(clientToEdit, editedClient);
-
-        List<Schedule> associatedSchedules = addressBook.findScheduleByClient(clientToEdit);
-
-        for (Schedule schedule : associatedSchedules) {
-            this.setSchedule(schedule, schedule.setClient(editedClient));
-        }
-    }
-
     /**
      * Returns true if a Schedule with the same session as {@code session} exists in the Schedule List.
      */
@@ -263,20 +389,6 @@ public class ModelManager implements Model {
         return addressBook.hasAnyScheduleAssociatedWithSession(session);
     }
 
-    /**
-     * Edits every Schedule with the same session as {@code sessionToEdit} to be associated with {@code editedSession}
-     * instead.
-     */
-    public void editSchedulesAssociatedWithSession(Session sessionToEdit, Session editedSession) {
-        requireAllNonNull(sessionToEdit, editedSession);
-
-        List<Schedule> associatedSchedules = addressBook.findScheduleBySession(sessionToEdit);
-
-        for (Schedule schedule : associatedSchedules) {
-            this.setSchedule(schedule, schedule.setSession(editedSession));
-        }
-    }
-
     /**
      * Returns true if a Schedule with the same client as {@code client} and schedule as
      * {@code session} exists in the Schedule List.
@@ -344,6 +456,7 @@ public class ModelManager implements Model {
     @Override
     public List<Schedule> findScheduleByClient(Client clientKey) {
         requireAllNonNull(clientKey);
+        loadHistory();
         return addressBook.findScheduleByClient(clientKey);
     }
 
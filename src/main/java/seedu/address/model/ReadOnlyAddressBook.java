@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.schedule.Schedule;
@@ -17,4 +20,24 @@ public interface ReadOnlyAddressBook {
     ObservableList<Client> getClientList();
     ObservableList<Session> getSessionList();
     ObservableList<Schedule> getScheduleList();
+
+    /**
+     * Returns a number that changes whenever the address book is modified, so that two calls returning the same
+     * number mean that the address book has not been modified in between.
+     */
+    long getVersion();
+
+    /**
+     * Returns the largest id given to a Session, including Sessions that were left out of this address book, so that
+     * the ids up to it are not given to new Sessions.
+     */
+    default long getLastSessionId() {
+        return getSessionList().stream().mapToLong(Session::getId).max().orElse(Identifiable.UNASSIGNED_ID);
+    }
+
+    /**
+     * Returns the schedules whose sessions take place on any day from {@code firstDay} until, but not including,
+     * {@code endDay}, in ascending start time order of their sessions.
+     */
+    List<Schedule> findSchedulesBetween(LocalDate firstDay, LocalDate endDay);
 }
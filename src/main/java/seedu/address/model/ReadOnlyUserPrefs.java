@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.util.WeightUnit;
 
@@ -14,6 +15,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getAddressBookFileFormat();
+
+    boolean isAddressBookFileMemoryMapped();
+
+    int getRecentMonthsToLoad();
+
+    int getSnapshotGenerations();
+
     WeightUnit getPreferredWeightUnit();
 
 }
@@ -3,29 +3,76 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.exceptions.DuplicateEntityException;
 import seedu.address.model.exceptions.EntityNotFoundException;
 
 public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements Iterable<T> {
 
-    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final ElementList<T> internalList = new ElementList<>();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final IdentityIndex<T> identityIndex;
+    private final Comparator<? super T> order;
+
+    /**
+     * Creates an empty list that checks for identical elements by comparing against every element in the list.
+     */
+    public UniqueList() {
+        identityIndex = new ScanningIdentityIndex();
+        order = null;
+    }
+
+    /**
+     * Creates an empty list that checks for identical elements through {@code identityIndex}.
+     * {@code identityIndex} must be empty and must not be shared with another list.
+     */
+    public UniqueList(IdentityIndex<T> identityIndex) {
+        requireNonNull(identityIndex);
+        this.identityIndex = identityIndex;
+        this.order = null;
+    }
+
+    /**
+     * Creates an empty list that checks for identical elements through {@code identityIndex} and always keeps its
+     * elements sorted by {@code order}, placing each element where it belongs instead of re-sorting the list.
+     * Elements that are equal in {@code order} stay in the order they were added.
+     * {@code identityIndex} must be empty and must not be shared with another list.
+     */
+    public UniqueList(IdentityIndex<T> identityIndex, Comparator<? super T> order) {
+        requireAllNonNull(identityIndex, order);
+        this.identityIndex = identityIndex;
+        this.order = order;
+    }
 
     /**
      * Returns true if the list contains an equivalent element as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isIdentical);
+        return identityIndex.findIdentical(toCheck).isPresent();
+    }
+
+    /**
+     * Returns the element in the list that is identical to {@code toCheck}, if any.
+     */
+    public Optional<T> findIdentical(T toCheck) {
+        requireNonNull(toCheck);
+        return identityIndex.findIdentical(toCheck);
     }
 
     /**
@@ -37,7 +84,12 @@ public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements I
         if (contains(toAdd)) {
             throw new DuplicateEntityException();
         }
-        internalList.add(toAdd);
+        if (order == null) {
+            internalList.add(toAdd);
+        } else {
+            internalList.add(insertionPoint(toAdd), toAdd);
+        }
+        identityIndex.add(toAdd);
     }
 
     /**
@@ -48,7 +100,7 @@ public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements I
     public void set(T target, T edited) {
         requireAllNonNull(target, edited);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EntityNotFoundException();
         }
@@ -57,7 +109,9 @@ public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements I
             throw new DuplicateEntityException();
         }
 
-        internalList.set(index, edited);
+        replaceAt(index, edited);
+        identityIndex.remove(target);
+        identityIndex.add(edited);
     }
 
     /**
@@ -66,14 +120,72 @@ public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements I
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new EntityNotFoundException();
+        }
+        internalList.remove(index);
+        identityIndex.remove(toRemove);
+    }
+
+    /**
+     * Removes the equivalent elements of {@code toRemove} from the list in one pass, as a single change to the
+     * backing list.
+     * Every element must exist in the list.
+     */
+    public void removeAll(Collection<? extends T> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<T> elementsToRemove = new HashSet<>(toRemove);
+        if (elementsToRemove.isEmpty()) {
+            return;
+        }
+        if (!elementsToRemove.stream().allMatch(this::isInList)) {
             throw new EntityNotFoundException();
         }
+
+        internalList.removeAll(elementsToRemove);
+        elementsToRemove.forEach(identityIndex::remove);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} in the list with its value, as a single change to the backing
+     * list. Only the values are checked for duplicates, against each other and through the identity index.
+     * Every key must exist in the list.
+     * The T identity of each value must not be the same as another value, or another existing T that is not replaced.
+     */
+    public void replaceAll(Map<T, T> replacements) {
+        requireNonNull(replacements);
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        if (replacements.isEmpty()) {
+            return;
+        }
+        if (!replacements.keySet().stream().allMatch(this::isInList)) {
+            throw new EntityNotFoundException();
+        }
+        identityIndex.requireUnique(new ArrayList<>(replacements.values()));
+        for (T replacement : replacements.values()) {
+            Optional<T> identical = identityIndex.findIdentical(replacement);
+            if (identical.isPresent() && !replacements.containsKey(identical.get())) {
+                throw new DuplicateEntityException(identical.get(), replacement);
+            }
+        }
+
+        internalList.changeAtOnce(() -> {
+            if (order == null) {
+                replaceInPlace(replacements);
+            } else {
+                replacements.forEach((target, replacement) -> replaceAt(indexOf(target), replacement));
+            }
+        });
+        replacements.keySet().forEach(identityIndex::remove);
+        replacements.values().forEach(identityIndex::add);
     }
 
     public void setAll(UniqueList<T> replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(inOrder(replacement.internalList));
+        rebuildIdentityIndex();
     }
 
     /**
@@ -82,11 +194,10 @@ public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements I
      */
     public void setAll(List<T> elements) {
         requireAllNonNull(elements);
-        if (!elementsAreUnique(elements)) {
-            throw new DuplicateEntityException();
-        }
+        identityIndex.requireUnique(elements);
 
-        internalList.setAll(elements);
+        internalList.setAll(inOrder(elements));
+        rebuildIdentityIndex();
     }
 
     /**
@@ -130,24 +241,193 @@ public class UniqueList<T extends CheckExisting<T> & Comparable<T>> implements I
     }
 
     /**
-     * Sorts elements in the list using T's compareTo method.
+     * Returns {@code elements} sorted by {@code order}, or {@code elements} itself if this list is not ordered.
      */
-    public void sort() {
-        internalList.sort(Comparable::compareTo);
+    private List<T> inOrder(List<T> elements) {
+        if (order == null) {
+            return elements;
+        }
+        List<T> sortedElements = new ArrayList<>(elements);
+        sortedElements.sort(order);
+        return sortedElements;
     }
 
     /**
-     * Returns true if {@code elements} contains are unique.
-     * Note that this only compares using CheckExisiting::isIdentical
+     * Returns true if the element identical to {@code element} in the list is also equal to it.
      */
-    private boolean elementsAreUnique(List<T> elements) {
-        for (int i = 0; i < elements.size() - 1; i++) {
-            for (int j = i + 1; j < elements.size(); j++) {
-                if (elements.get(i).isIdentical(elements.get(j))) {
-                    return false;
+    private boolean isInList(T element) {
+        return identityIndex.findIdentical(element).filter(element::equals).isPresent();
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code edited}, moving it to where it belongs if the list is
+     * ordered.
+     */
+    private void replaceAt(int index, T edited) {
+        if (order == null || staysInPlace(index, edited)) {
+            internalList.set(index, edited);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionPoint(edited), edited);
+        }
+    }
+
+    /**
+     * Replaces every key of {@code replacements}, which must all be in the unordered list, with its value where
+     * the key is, stopping once every key has been found.
+     */
+    private void replaceInPlace(Map<T, T> replacements) {
+        int replacedCount = 0;
+        for (int i = 0; i < internalList.size() && replacedCount < replacements.size(); i++) {
+            T replacement = replacements.get(internalList.get(i));
+            if (replacement != null) {
+                internalList.set(i, replacement);
+                replacedCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the element equal to {@code element}, or -1 if there is none.
+     * Ordered lists only look among the elements that are equal to {@code element} in {@code order}.
+     */
+    private int indexOf(T element) {
+        if (order == null) {
+            return internalList.indexOf(element);
+        }
+        int index = lowerBound(element);
+        while (index < internalList.size() && order.compare(internalList.get(index), element) == 0) {
+            if (internalList.get(index).equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element of the ordered list that is not less than {@code element}.
+     */
+    private int lowerBound(T element) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(internalList.get(middle), element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index after the last element of the ordered list that is not greater than {@code element},
+     * which is where {@code element} is inserted.
+     */
+    private int insertionPoint(T element) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(internalList.get(middle), element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code edited} can replace the element at {@code index} without breaking the order.
+     */
+    private boolean staysInPlace(int index, T edited) {
+        return (index == 0 || order.compare(internalList.get(index - 1), edited) <= 0)
+                && (index == internalList.size() - 1 || order.compare(edited, internalList.get(index + 1)) <= 0);
+    }
+
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        internalList.forEach(identityIndex::add);
+    }
+
+    /**
+     * The backing list, whose changes can be grouped to reach its listeners as a single change.
+     */
+    private static class ElementList<E> extends ModifiableObservableListBase<E> {
+        private final List<E> elements = new ArrayList<>();
+
+        /**
+         * Makes the changes in {@code changes} to this list, reporting them to its listeners as a single change.
+         */
+        void changeAtOnce(Runnable changes) {
+            beginChange();
+            try {
+                changes.run();
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, E element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected E doSet(int index, E element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected E doRemove(int index) {
+            return elements.remove(index);
+        }
+    }
+
+    /**
+     * Fallback {@code IdentityIndex} for elements whose identity cannot be expressed as a key.
+     * Every check compares against each element of the list.
+     */
+    private class ScanningIdentityIndex implements IdentityIndex<T> {
+        @Override
+        public Optional<T> findIdentical(T toCheck) {
+            return internalList.stream().filter(toCheck::isIdentical).findFirst();
+        }
+
+        /**
+         * Compares every pair of elements using CheckExisting::isIdentical.
+         */
+        @Override
+        public void requireUnique(List<? extends T> elements) {
+            for (int i = 0; i < elements.size() - 1; i++) {
+                for (int j = i + 1; j < elements.size(); j++) {
+                    if (elements.get(i).isIdentical(elements.get(j))) {
+                        throw new DuplicateEntityException(elements.get(i), elements.get(j));
+                    }
                 }
             }
         }
-        return true;
+
+        @Override
+        public void add(T element) {}
+
+        @Override
+        public void remove(T element) {}
+
+        @Override
+        public void clear() {}
     }
 }
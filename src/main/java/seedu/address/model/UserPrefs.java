@@ -1,11 +1,13 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.util.WeightUnit;
 
@@ -14,8 +16,19 @@ import seedu.address.model.util.WeightUnit;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_RECENT_MONTHS = "The number of recent months to load cannot be "
+            + "negative.";
+    public static final String MESSAGE_INVALID_SNAPSHOT_GENERATIONS = "The number of snapshots to keep cannot be "
+            + "negative.";
+
+    private static final Path DEFAULT_ADDRESS_BOOK_FILE_PATH = Paths.get("data" , "addressbook.json");
+
     private GuiSettings guiSettings = new GuiSettings();
-    private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private Path addressBookFilePath = DEFAULT_ADDRESS_BOOK_FILE_PATH;
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private boolean isAddressBookFileMemoryMapped = false;
+    private int recentMonthsToLoad = 0;
+    private int snapshotGenerations = 7;
     private WeightUnit preferredWeightUnit = new WeightUnit();
 
     /**
@@ -38,6 +51,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setAddressBookFileMemoryMapped(newUserPrefs.isAddressBookFileMemoryMapped());
+        setRecentMonthsToLoad(newUserPrefs.getRecentMonthsToLoad());
+        setSnapshotGenerations(newUserPrefs.getSnapshotGenerations());
         setPreferredWeightUnit(newUserPrefs.getPreferredWeightUnit());
     }
 
@@ -50,7 +67,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    /**
+     * Returns the path of the data file. While the path is the default one, the file is named with the extension of
+     * the data file format, so that a file in another format is not saved under the default json file name.
+     */
     public Path getAddressBookFilePath() {
+        if (addressBookFilePath.equals(DEFAULT_ADDRESS_BOOK_FILE_PATH)) {
+            return DEFAULT_ADDRESS_BOOK_FILE_PATH.resolveSibling(
+                    "addressbook" + addressBookFileFormat.getFileExtension());
+        }
         return addressBookFilePath;
     }
 
@@ -59,6 +84,65 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public boolean isAddressBookFileMemoryMapped() {
+        return isAddressBookFileMemoryMapped;
+    }
+
+    /**
+     * Sets whether the data file is read through a memory mapping, which is only supported by the binary format.
+     */
+    public void setAddressBookFileMemoryMapped(boolean isAddressBookFileMemoryMapped) {
+        this.isAddressBookFileMemoryMapped = isAddressBookFileMemoryMapped;
+    }
+
+    public int getRecentMonthsToLoad() {
+        return recentMonthsToLoad;
+    }
+
+    /**
+     * Sets the number of months of sessions, up to the current month, to load at startup, leaving earlier sessions
+     * to be loaded when they are needed. All sessions are loaded at startup if this is 0.
+     */
+    public void setRecentMonthsToLoad(int recentMonthsToLoad) {
+        checkArgument(isValidRecentMonthsToLoad(recentMonthsToLoad), MESSAGE_INVALID_RECENT_MONTHS);
+        this.recentMonthsToLoad = recentMonthsToLoad;
+    }
+
+    public int getSnapshotGenerations() {
+        return snapshotGenerations;
+    }
+
+    /**
+     * Sets the number of daily snapshots of the address book to keep. No snapshots are taken if this is 0.
+     */
+    public void setSnapshotGenerations(int snapshotGenerations) {
+        checkArgument(isValidSnapshotGenerations(snapshotGenerations), MESSAGE_INVALID_SNAPSHOT_GENERATIONS);
+        this.snapshotGenerations = snapshotGenerations;
+    }
+
+    /**
+     * Returns true if {@code recentMonthsToLoad} is a valid number of recent months to load.
+     */
+    public static boolean isValidRecentMonthsToLoad(int recentMonthsToLoad) {
+        return recentMonthsToLoad >= 0;
+    }
+
+    /**
+     * Returns true if {@code snapshotGenerations} is a valid number of snapshots to keep.
+     */
+    public static boolean isValidSnapshotGenerations(int snapshotGenerations) {
+        return snapshotGenerations >= 0;
+    }
+
     public WeightUnit getPreferredWeightUnit() {
         return preferredWeightUnit;
     }
@@ -81,12 +165,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFileFormat.equals(o.addressBookFileFormat)
+                && isAddressBookFileMemoryMapped == o.isAddressBookFileMemoryMapped
+                && recentMonthsToLoad == o.recentMonthsToLoad
+                && snapshotGenerations == o.snapshotGenerations
                 && preferredWeightUnit.equals(o.preferredWeightUnit);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, preferredWeightUnit);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, isAddressBookFileMemoryMapped,
+                recentMonthsToLoad, snapshotGenerations, preferredWeightUnit);
     }
 
     @Override
@@ -94,6 +183,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nLocal data file memory mapped : " + isAddressBookFileMemoryMapped);
+        sb.append("\nRecent months to load : " + recentMonthsToLoad);
+        sb.append("\nSnapshots to keep : " + snapshotGenerations);
         sb.append("\nPreferred weight unit : " + preferredWeightUnit);
         return sb.toString();
     }
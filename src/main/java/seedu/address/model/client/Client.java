@@ -8,13 +8,16 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.CheckExisting;
+import seedu.address.model.Identifiable;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Client in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Client implements CheckExisting<Client>, Comparable<Client> {
+public class Client implements CheckExisting<Client>, Comparable<Client>, Identifiable<Client> {
+
+    private final long id;
 
     // Identity fields
     private final Email email;
@@ -25,16 +28,39 @@ public class Client implements CheckExisting<Client>, Comparable<Client> {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
+     * The Client is given an id once it is added to an {@code AddressBook}.
      */
     public Client(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(UNASSIGNED_ID, name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Client(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.tags.addAll(tags);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, address, tags);
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public Client withId(long id) {
+        return new Client(id, name, phone, email, address, tags);
     }
 
     public Name getName() {
@@ -76,7 +102,7 @@ public class Client implements CheckExisting<Client>, Comparable<Client> {
 
     /**
      * Returns true if both Clients have the same identity and data fields.
-     * This defines a stronger notion of equality between two Clients.
+     * This defines a stronger notion of equality between two Clients. Ids are not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -98,8 +124,7 @@ public class Client implements CheckExisting<Client>, Comparable<Client> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,105 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lowercase trigrams (three consecutive characters) of Client names to the ids of the
+ * Clients whose names contain them.
+ * A name contains a keyword of at least three characters only if it contains every trigram of the keyword, so the
+ * candidates for a keyword are found by intersecting the ids of its trigrams, starting from the rarest, and only
+ * the candidates are checked against the keyword.
+ */
+public class ClientNameIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<String, Set<Long>> idsByTrigram = new HashMap<>();
+    private final Map<Long, String> lowerCaseNamesById = new HashMap<>();
+
+    /**
+     * Indexes the name of {@code client} under its id.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        String lowerCaseName = client.getName().fullName.toLowerCase();
+        lowerCaseNamesById.put(client.getId(), lowerCaseName);
+        for (String trigram : getTrigrams(lowerCaseName)) {
+            idsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(client.getId());
+        }
+    }
+
+    /**
+     * Removes the name of {@code client}, which must have been added to this index before.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        String lowerCaseName = lowerCaseNamesById.remove(client.getId());
+        if (lowerCaseName == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(lowerCaseName)) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            ids.remove(client.getId());
+            if (ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    public void clear() {
+        idsByTrigram.clear();
+        lowerCaseNamesById.clear();
+    }
+
+    /**
+     * Returns the ids of the Clients whose names contain {@code keyword}, ignoring case.
+     * Every Client matches a blank keyword.
+     */
+    public Set<Long> findIdsContaining(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.isBlank()) {
+            return new HashSet<>(lowerCaseNamesById.keySet());
+        }
+
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.length() < TRIGRAM_LENGTH) {
+            // Too short to have a trigram, so every name is a candidate
+            return findIdsContaining(lowerCaseNamesById.keySet(), lowerCaseKeyword);
+        }
+
+        List<Set<Long>> idLists = new ArrayList<>();
+        for (String trigram : getTrigrams(lowerCaseKeyword)) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            idLists.add(ids);
+        }
+        return findIdsContaining(ClientSearchIndex.intersect(idLists), lowerCaseKeyword);
+    }
+
+    private Set<Long> findIdsContaining(Set<Long> candidateIds, String lowerCaseKeyword) {
+        Set<Long> matchingIds = new HashSet<>();
+        for (Long id : candidateIds) {
+            if (lowerCaseNamesById.get(id).contains(lowerCaseKeyword)) {
+                matchingIds.add(id);
+            }
+        }
+        return matchingIds;
+    }
+
+    private static Set<String> getTrigrams(String lowerCaseText) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Client} matches keywords for each of its fields.
+ * A Client matches if, for every field searched, it matches any of the keywords for that field, and it has every
+ * Tag searched. Names match keywords they contain, and phones, emails and addresses match keywords whose every
+ * word starts one of their words, ignoring case. Criteria that search no field match no Client.
+ */
+public class ClientSearchCriteria implements Predicate<Client> {
+    private final List<String> nameKeywords;
+    private final List<String> phoneKeywords;
+    private final List<String> emailKeywords;
+    private final List<String> addressKeywords;
+    private final Set<Tag> tags;
+
+    /**
+     * Every field must be present and not null. An empty field is not searched.
+     */
+    public ClientSearchCriteria(List<String> nameKeywords, List<String> phoneKeywords, List<String> emailKeywords,
+            List<String> addressKeywords, Set<Tag> tags) {
+        requireAllNonNull(nameKeywords, phoneKeywords, emailKeywords, addressKeywords, tags);
+        this.nameKeywords = new ArrayList<>(nameKeywords);
+        this.phoneKeywords = new ArrayList<>(phoneKeywords);
+        this.emailKeywords = new ArrayList<>(emailKeywords);
+        this.addressKeywords = new ArrayList<>(addressKeywords);
+        this.tags = new HashSet<>(tags);
+    }
+
+    /**
+     * Creates criteria that search names only, for any of {@code nameKeywords}.
+     */
+    public static ClientSearchCriteria ofNames(List<String> nameKeywords) {
+        return new ClientSearchCriteria(nameKeywords, List.of(), List.of(), List.of(), Set.of());
+    }
+
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public List<String> getPhoneKeywords() {
+        return phoneKeywords;
+    }
+
+    public List<String> getEmailKeywords() {
+        return emailKeywords;
+    }
+
+    public List<String> getAddressKeywords() {
+        return addressKeywords;
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns true if no field is searched.
+     */
+    public boolean isEmpty() {
+        return nameKeywords.isEmpty() && phoneKeywords.isEmpty() && emailKeywords.isEmpty()
+                && addressKeywords.isEmpty() && tags.isEmpty();
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return !isEmpty()
+                && (nameKeywords.isEmpty() || new NameContainsSubstringPredicate(nameKeywords).test(client))
+                && hasAnyWordsStartingWith(phoneKeywords, client.getPhone().value)
+                && hasAnyWordsStartingWith(emailKeywords, client.getEmail().value)
+                && hasAnyWordsStartingWith(addressKeywords, client.getAddress().value)
+                && client.getTags().containsAll(tags);
+    }
+
+    private static boolean hasAnyWordsStartingWith(Collection<String> keywords, String field) {
+        return keywords.isEmpty()
+                || keywords.stream().anyMatch(keyword -> ClientWordIndex.hasWordsStartingWith(field, keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ClientSearchCriteria)) {
+            return false;
+        }
+
+        ClientSearchCriteria otherCriteria = (ClientSearchCriteria) other;
+        return nameKeywords.equals(otherCriteria.nameKeywords)
+                && phoneKeywords.equals(otherCriteria.phoneKeywords)
+                && emailKeywords.equals(otherCriteria.emailKeywords)
+                && addressKeywords.equals(otherCriteria.addressKeywords)
+                && tags.equals(otherCriteria.tags);
+    }
+}
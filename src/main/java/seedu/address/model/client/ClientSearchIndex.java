@@ -0,0 +1,127 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Indexes the names, phones, emails, addresses and Tags of Clients by id, to find the Clients that match
+ * {@link ClientSearchCriteria} without testing every Client.
+ * Every field searched gives a set of matching ids, and the sets are intersected starting from the smallest, so
+ * the work done is bounded by the most selective field rather than by the number of Clients.
+ */
+public class ClientSearchIndex {
+
+    private final ClientNameIndex nameIndex = new ClientNameIndex();
+    private final ClientWordIndex phoneIndex = new ClientWordIndex(client -> client.getPhone().value);
+    private final ClientWordIndex emailIndex = new ClientWordIndex(client -> client.getEmail().value);
+    private final ClientWordIndex addressIndex = new ClientWordIndex(client -> client.getAddress().value);
+    private final ClientTagIndex tagIndex = new ClientTagIndex();
+
+    /**
+     * Indexes the fields of {@code client} under its id.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        nameIndex.add(client);
+        phoneIndex.add(client);
+        emailIndex.add(client);
+        addressIndex.add(client);
+        tagIndex.add(client);
+    }
+
+    /**
+     * Removes the fields of {@code client}, which must have been added to this index before.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        nameIndex.remove(client);
+        phoneIndex.remove(client);
+        emailIndex.remove(client);
+        addressIndex.remove(client);
+        tagIndex.remove(client);
+    }
+
+    public void clear() {
+        nameIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        addressIndex.clear();
+        tagIndex.clear();
+    }
+
+    /**
+     * Returns the ids of the Clients that match {@code criteria}.
+     */
+    public Set<Long> findIds(ClientSearchCriteria criteria) {
+        requireNonNull(criteria);
+        if (criteria.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<Set<Long>> idLists = new ArrayList<>();
+        addIdsMatchingAny(idLists, criteria.getNameKeywords(), nameIndex::findIdsContaining);
+        addIdsMatchingAny(idLists, criteria.getPhoneKeywords(), phoneIndex::findIdsMatching);
+        addIdsMatchingAny(idLists, criteria.getEmailKeywords(), emailIndex::findIdsMatching);
+        addIdsMatchingAny(idLists, criteria.getAddressKeywords(), addressIndex::findIdsMatching);
+        if (criteria.getTags().isEmpty()) {
+            return intersect(idLists);
+        }
+
+        BitSet tagSlots = tagIndex.findSlotsWithAll(criteria.getTags());
+        int tagCount = tagSlots.cardinality();
+        if (idLists.stream().allMatch(ids -> tagCount <= ids.size())) {
+            // The Clients with the Tags are the fewest, so they are the ones checked against the other fields
+            idLists.add(tagIndex.getIds(tagSlots));
+            return intersect(idLists);
+        }
+        Set<Long> matchingIds = intersect(idLists);
+        matchingIds.removeIf(id -> !tagIndex.isInSlots(id, tagSlots));
+        return matchingIds;
+    }
+
+    private static void addIdsMatchingAny(List<Set<Long>> idLists, List<String> keywords,
+            Function<String, Set<Long>> findIdsMatching) {
+        if (keywords.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>();
+        for (String keyword : keywords) {
+            ids.addAll(findIdsMatching.apply(keyword));
+        }
+        idLists.add(ids);
+    }
+
+    /**
+     * Returns the ids that are in every one of {@code idLists}, which must not be empty, by checking the ids of the
+     * smallest set against the other sets, from the smallest to the largest.
+     */
+    static Set<Long> intersect(List<Set<Long>> idLists) {
+        assert !idLists.isEmpty();
+        List<Set<Long>> sortedIdLists = new ArrayList<>(idLists);
+        sortedIdLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> ids = new HashSet<>();
+        for (Long id : sortedIdLists.get(0)) {
+            if (isInAllOthers(sortedIdLists, id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static boolean isInAllOthers(List<Set<Long>> sortedIdLists, Long id) {
+        for (int i = 1; i < sortedIdLists.size(); i++) {
+            if (!sortedIdLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
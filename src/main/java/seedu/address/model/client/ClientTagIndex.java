@@ -0,0 +1,128 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from Tags to the Clients that have them, kept as a bitset for every Tag.
+ * Every Client in the index is given a slot, and a Tag's bitset has the slots of the Clients that have it set, so
+ * the Clients that have several Tags are found by intersecting their bitsets a word at a time. The slots of
+ * removed Clients are given to the next Clients added, which keeps the bitsets as short as the number of Clients.
+ */
+public class ClientTagIndex {
+
+    private final Map<Tag, BitSet> slotsByTag = new HashMap<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final List<Long> idsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    /**
+     * Indexes the Tags of {@code client} under its id.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = idsBySlot.size();
+            idsBySlot.add(client.getId());
+        } else {
+            slot = freeSlots.pop();
+            idsBySlot.set(slot, client.getId());
+        }
+        slotsById.put(client.getId(), slot);
+        for (Tag tag : client.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Removes the Tags of {@code client}, which must have been added to this index before.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        Integer slot = slotsById.remove(client.getId());
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : client.getTags()) {
+            BitSet slots = slotsByTag.get(tag);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByTag.remove(tag);
+            }
+        }
+        idsBySlot.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    public void clear() {
+        slotsByTag.clear();
+        slotsById.clear();
+        idsBySlot.clear();
+        freeSlots.clear();
+    }
+
+    /**
+     * Returns the ids of every Client in the index.
+     */
+    public Set<Long> getIds() {
+        return new HashSet<>(slotsById.keySet());
+    }
+
+    /**
+     * Returns the slots of the Clients that have every one of {@code tags}, intersecting the bitsets from the one
+     * with the fewest Clients.
+     */
+    public BitSet findSlotsWithAll(Collection<Tag> tags) {
+        requireNonNull(tags);
+        List<BitSet> tagSlots = new ArrayList<>();
+        for (Tag tag : tags) {
+            BitSet slots = slotsByTag.get(tag);
+            if (slots == null) {
+                return new BitSet();
+            }
+            tagSlots.add(slots);
+        }
+        if (tagSlots.isEmpty()) {
+            BitSet allSlots = new BitSet();
+            slotsById.values().forEach(allSlots::set);
+            return allSlots;
+        }
+
+        tagSlots.sort((first, second) -> Integer.compare(first.cardinality(), second.cardinality()));
+        BitSet slotsWithAll = (BitSet) tagSlots.get(0).clone();
+        for (int i = 1; i < tagSlots.size() && !slotsWithAll.isEmpty(); i++) {
+            slotsWithAll.and(tagSlots.get(i));
+        }
+        return slotsWithAll;
+    }
+
+    /**
+     * Returns true if the Client with the given {@code id} has one of the {@code slots}.
+     */
+    public boolean isInSlots(long id, BitSet slots) {
+        Integer slot = slotsById.get(id);
+        return slot != null && slots.get(slot);
+    }
+
+    /**
+     * Returns the ids of the Clients in {@code slots}.
+     */
+    public Set<Long> getIds(BitSet slots) {
+        Set<Long> ids = new HashSet<>();
+        slots.stream().forEach(slot -> ids.add(idsBySlot.get(slot)));
+        return ids;
+    }
+}
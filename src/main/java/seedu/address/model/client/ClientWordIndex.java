@@ -0,0 +1,112 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the lowercase words of one field of Clients to the ids of the Clients whose field has
+ * them. Words are the runs of letters and digits in the field, so that {@code alice@example.com} has the words
+ * {@code alice}, {@code example} and {@code com}.
+ * The words in the index are sorted, so the words that start with a keyword are found by a range lookup.
+ */
+public class ClientWordIndex {
+
+    private final Function<Client, String> fieldExtractor;
+    private final NavigableMap<String, Set<Long>> idsByWord = new TreeMap<>();
+    private final Map<Long, Set<String>> wordsById = new HashMap<>();
+
+    /**
+     * Creates an empty index of the field returned by {@code fieldExtractor}.
+     */
+    public ClientWordIndex(Function<Client, String> fieldExtractor) {
+        requireNonNull(fieldExtractor);
+        this.fieldExtractor = fieldExtractor;
+    }
+
+    /**
+     * Returns the lowercase words of {@code text}.
+     */
+    public static Set<String> getWords(String text) {
+        return Arrays.stream(text.toLowerCase().split("[^\\p{Alnum}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns true if every word of {@code keyword} starts a word of {@code text}, ignoring case.
+     */
+    public static boolean hasWordsStartingWith(String text, String keyword) {
+        Set<String> words = getWords(text);
+        return getWords(keyword).stream()
+                .allMatch(keywordWord -> words.stream().anyMatch(word -> word.startsWith(keywordWord)));
+    }
+
+    /**
+     * Indexes the words of the field of {@code client} under its id.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        Set<String> words = getWords(fieldExtractor.apply(client));
+        wordsById.put(client.getId(), words);
+        for (String word : words) {
+            idsByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(client.getId());
+        }
+    }
+
+    /**
+     * Removes the words of the field of {@code client}, which must have been added to this index before.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        Set<String> words = wordsById.remove(client.getId());
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<Long> ids = idsByWord.get(word);
+            ids.remove(client.getId());
+            if (ids.isEmpty()) {
+                idsByWord.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        idsByWord.clear();
+        wordsById.clear();
+    }
+
+    /**
+     * Returns the ids of the Clients for which every word of {@code keyword} starts a word of the field,
+     * ignoring case.
+     */
+    public Set<Long> findIdsMatching(String keyword) {
+        requireNonNull(keyword);
+        List<Set<Long>> idLists = new ArrayList<>();
+        for (String keywordWord : getWords(keyword)) {
+            idLists.add(findIdsWithWordStartingWith(keywordWord));
+        }
+        if (idLists.isEmpty()) {
+            return new HashSet<>(wordsById.keySet());
+        }
+        return ClientSearchIndex.intersect(idLists);
+    }
+
+    private Set<Long> findIdsWithWordStartingWith(String prefix) {
+        // Every word that starts with the prefix sorts before the prefix followed by the greatest character
+        Set<Long> ids = new HashSet<>();
+        idsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(ids::addAll);
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.client;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.IdentityIndex;
+import seedu.address.model.KeyedIdentityIndex;
+import seedu.address.model.UniqueList;
+
+/**
+ * A {@code UniqueList} of Clients identified by their emails, whose fields are kept in a {@link ClientSearchIndex}
+ * so that finding the Clients that match search criteria does not have to test every Client.
+ * Every Client in the list must have been given an id.
+ */
+public class UniqueClientList extends UniqueList<Client> {
+
+    private final ClientSearchIndex searchIndex;
+
+    public UniqueClientList() {
+        this(new ClientSearchIndex());
+    }
+
+    private UniqueClientList(ClientSearchIndex searchIndex) {
+        super(new SearchUpdatingIndex(searchIndex));
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Returns the ids of the Clients in the list that match {@code criteria}.
+     */
+    public Set<Long> findIds(ClientSearchCriteria criteria) {
+        return searchIndex.findIds(criteria);
+    }
+
+    /**
+     * Checks identity by email, and indexes the fields of every Client added to it in a {@code ClientSearchIndex}.
+     */
+    private static class SearchUpdatingIndex implements IdentityIndex<Client> {
+        private final KeyedIdentityIndex<Client, Email> emailIndex = new KeyedIdentityIndex<>(Client::getEmail);
+        private final ClientSearchIndex searchIndex;
+
+        SearchUpdatingIndex(ClientSearchIndex searchIndex) {
+            this.searchIndex = searchIndex;
+        }
+
+        @Override
+        public Optional<Client> findIdentical(Client toCheck) {
+            return emailIndex.findIdentical(toCheck);
+        }
+
+        @Override
+        public void requireUnique(List<? extends Client> elements) {
+            emailIndex.requireUnique(elements);
+        }
+
+        @Override
+        public void add(Client element) {
+            emailIndex.add(element);
+            searchIndex.add(element);
+        }
+
+        @Override
+        public void remove(Client element) {
+            emailIndex.remove(element);
+            searchIndex.remove(element);
+        }
+
+        @Override
+        public void clear() {
+            emailIndex.clear();
+            searchIndex.clear();
+        }
+    }
+}
@@ -1,4 +1,17 @@
 package seedu.address.model.exceptions;
 
 public class DuplicateEntityException extends RuntimeException {
+
+    public static final String MESSAGE_IDENTICAL_PAIR = "%s is identical to %s";
+
+    public DuplicateEntityException() {
+        super();
+    }
+
+    /**
+     * Reports that {@code first} and {@code second} are identical.
+     */
+    public DuplicateEntityException(Object first, Object second) {
+        super(String.format(MESSAGE_IDENTICAL_PAIR, first, second));
+    }
 }
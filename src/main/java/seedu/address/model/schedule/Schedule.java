@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 import seedu.address.model.CheckExisting;
+import seedu.address.model.Identifiable;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.Name;
@@ -15,6 +16,9 @@ import seedu.address.model.session.Session;
 
 /**
  * Represents an association class between Client and Session.
+ * A Schedule holds its Client and Session themselves. An {@code AddressBook} files its Schedules under the ids of
+ * their Client and Session, and replaces its Schedules with ones holding the edited Client or Session whenever
+ * either is edited.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Schedule implements CheckExisting<Schedule>, Comparable<Schedule> {
@@ -57,6 +61,10 @@ public class Schedule implements CheckExisting<Schedule>, Comparable<Schedule> {
         return client;
     }
 
+    public long getClientId() {
+        return client.getId();
+    }
+
     public Name getClientName() {
         return client.getName();
     }
@@ -69,6 +77,10 @@ public class Schedule implements CheckExisting<Schedule>, Comparable<Schedule> {
         return session;
     }
 
+    public long getSessionId() {
+        return session.getId();
+    }
+
     public PaymentStatus getPaymentStatus() {
         return paymentStatus;
     }
@@ -110,7 +122,9 @@ public class Schedule implements CheckExisting<Schedule>, Comparable<Schedule> {
     }
 
     /**
-     * Returns true if both Schedules have the same identity fields (equal {@code client} and {@code session}).
+     * Returns true if both Schedules refer to the same client and session.
+     * Schedules stored in an {@code AddressBook} are compared by client and session ids, which do not change when
+     * the client or session is edited. Otherwise, {@code client} and {@code session} must be equal.
      */
     @Override
     public boolean isIdentical(Schedule otherSchedule) {
@@ -122,9 +136,17 @@ public class Schedule implements CheckExisting<Schedule>, Comparable<Schedule> {
             return false;
         }
 
+        if (hasAssignedIds() && otherSchedule.hasAssignedIds()) {
+            return otherSchedule.getClientId() == getClientId() && otherSchedule.getSessionId() == getSessionId();
+        }
+
         return otherSchedule.client.equals(this.client) && otherSchedule.session.equals(this.session);
     }
 
+    private boolean hasAssignedIds() {
+        return getClientId() != Identifiable.UNASSIGNED_ID && getSessionId() != Identifiable.UNASSIGNED_ID;
+    }
+
     /**
      * Returns true if both Schedules have the same identity and data fields.
      * This defines a stronger notion of equality between two Schedules.
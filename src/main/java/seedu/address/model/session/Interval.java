@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * Represents a Session's interval in FitEgo.
@@ -76,6 +77,10 @@ public class Interval {
         return this.start.plusMinutes(durationInMinutes);
     }
 
+    public int getDurationInMinutes() {
+        return this.durationInMinutes;
+    }
+
     public String getFormattedStartDateTime(DateTimeFormatter formatter) {
         return this.getStart().format(formatter);
     }
@@ -134,6 +139,6 @@ public class Interval {
 
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return Objects.hash(start, durationInMinutes);
     }
 }
@@ -7,12 +7,15 @@ import java.util.Objects;
 
 import seedu.address.logic.parser.session.SessionParserUtil;
 import seedu.address.model.CheckExisting;
+import seedu.address.model.Identifiable;
 
 /**
  * Represents a training Session in FitEgo.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Session implements CheckExisting<Session>, Comparable<Session> {
+public class Session implements CheckExisting<Session>, Comparable<Session>, Identifiable<Session> {
+    private final long id;
+
     // Identity fields
     private final Gym gym;
     private final Interval interval;
@@ -20,18 +23,41 @@ public class Session implements CheckExisting<Session>, Comparable<Session> {
     // Data fields
     private final ExerciseType exerciseType;
 
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
+     * The Session is given an id once it is added to an {@code AddressBook}.
      */
     public Session(Gym gym, ExerciseType exerciseType, Interval interval) {
+        this(UNASSIGNED_ID, gym, exerciseType, interval);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Session(long id, Gym gym, ExerciseType exerciseType, Interval interval) {
         requireAllNonNull(gym, exerciseType, interval);
+        this.id = id;
         this.exerciseType = exerciseType;
         this.interval = interval;
         this.gym = gym;
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(gym, interval, exerciseType);
     }
 
     //Getters / Setters
 
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public Session withId(long id) {
+        return new Session(id, gym, exerciseType, interval);
+    }
+
     public Gym getGym() {
         return gym;
     }
@@ -72,7 +98,7 @@ public class Session implements CheckExisting<Session>, Comparable<Session> {
 
     /**
      * Returns true if both Session have the same identity and data fields.
-     * This defines a stronger notion of equality between two Sessions.
+     * This defines a stronger notion of equality between two Sessions. Ids are not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -92,8 +118,7 @@ public class Session implements CheckExisting<Session>, Comparable<Session> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(gym, interval, exerciseType);
+        return hashCode;
     }
 
     @Override
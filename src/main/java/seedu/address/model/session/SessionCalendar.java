@@ -0,0 +1,108 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Files Sessions under every day they take place on, in ascending start time order within each day.
+ * The sessions on a day, or in a range of days, are found through a range view of the days, in time proportional
+ * to their number rather than to the number of sessions.
+ */
+public class SessionCalendar {
+
+    private final NavigableMap<LocalDate, List<Session>> sessionsByDay = new TreeMap<>();
+
+    /**
+     * Files {@code session} under the days it takes place on.
+     */
+    public void add(Session session) {
+        requireNonNull(session);
+        for (LocalDate day = getFirstDay(session); !day.isAfter(getLastDay(session)); day = day.plusDays(1)) {
+            List<Session> sessionsOnDay = sessionsByDay.computeIfAbsent(day, unused -> new ArrayList<>(1));
+            sessionsOnDay.add(insertionPoint(sessionsOnDay, session), session);
+        }
+    }
+
+    /**
+     * Removes {@code session} from the days it takes place on, if it is filed under them.
+     */
+    public void remove(Session session) {
+        requireNonNull(session);
+        for (LocalDate day = getFirstDay(session); !day.isAfter(getLastDay(session)); day = day.plusDays(1)) {
+            List<Session> sessionsOnDay = sessionsByDay.get(day);
+            if (sessionsOnDay == null) {
+                continue;
+            }
+            sessionsOnDay.remove(session);
+            if (sessionsOnDay.isEmpty()) {
+                sessionsByDay.remove(day);
+            }
+        }
+    }
+
+    public void clear() {
+        sessionsByDay.clear();
+    }
+
+    /**
+     * Returns the sessions that take place on {@code day}, in ascending start time order.
+     */
+    public List<Session> getSessionsOn(LocalDate day) {
+        requireNonNull(day);
+        return new ArrayList<>(sessionsByDay.getOrDefault(day, List.of()));
+    }
+
+    /**
+     * Returns the sessions that take place on any day from {@code firstDay} until, but not including,
+     * {@code endDay}, in ascending start time order. Each session is returned once, however many of the days it
+     * takes place on.
+     */
+    public List<Session> getSessionsBetween(LocalDate firstDay, LocalDate endDay) {
+        requireAllNonNull(firstDay, endDay);
+        List<Session> sessions = new ArrayList<>();
+        if (!firstDay.isBefore(endDay)) {
+            return sessions;
+        }
+
+        for (Map.Entry<LocalDate, List<Session>> entry : sessionsByDay.subMap(firstDay, endDay).entrySet()) {
+            for (Session session : entry.getValue()) {
+                // A session that takes place on several of the days is taken from the first of them
+                LocalDate firstDayInRange = getFirstDay(session).isBefore(firstDay) ? firstDay : getFirstDay(session);
+                if (entry.getKey().equals(firstDayInRange)) {
+                    sessions.add(session);
+                }
+            }
+        }
+        return sessions;
+    }
+
+    private static LocalDate getFirstDay(Session session) {
+        return session.getStartTime().toLocalDate();
+    }
+
+    /**
+     * Returns the last day {@code session} takes place on. A session that ends at midnight does not take place on
+     * the day that starts then.
+     */
+    private static LocalDate getLastDay(Session session) {
+        return session.getEndTime().minusNanos(1).toLocalDate();
+    }
+
+    /**
+     * Returns the index after the last session in {@code sessionsOnDay} that does not start after {@code session}.
+     */
+    private static int insertionPoint(List<Session> sessionsOnDay, Session session) {
+        int index = sessionsOnDay.size();
+        while (index > 0 && sessionsOnDay.get(index - 1).getStartTime().isAfter(session.getStartTime())) {
+            index--;
+        }
+        return index;
+    }
+}
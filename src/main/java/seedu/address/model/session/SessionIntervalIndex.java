@@ -0,0 +1,102 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.IdentityIndex;
+import seedu.address.model.exceptions.DuplicateEntityException;
+
+/**
+ * An {@code IdentityIndex} for Sessions, whose identity is "intervals overlap" (see {@link Session#isIdentical}).
+ * Sessions are kept sorted by start time, together with the multiset of their durations.
+ * A session can only overlap {@code [start, end)} if it starts before {@code end} and no earlier than the longest
+ * stored duration before {@code start}, so an overlap query only visits that window of the start-time order:
+ * O(log n + k) where k is the number of sessions starting inside the window.
+ */
+public class SessionIntervalIndex implements IdentityIndex<Session> {
+
+    private final NavigableMap<LocalDateTime, List<Session>> sessionsByStart = new TreeMap<>();
+    private final NavigableMap<Integer, Integer> durationCounts = new TreeMap<>();
+
+    @Override
+    public Optional<Session> findIdentical(Session toCheck) {
+        requireNonNull(toCheck);
+        return findOverlapping(toCheck.getInterval()).stream().findFirst();
+    }
+
+    /**
+     * Returns every indexed session whose interval overlaps {@code interval}, in ascending start time order.
+     */
+    public List<Session> findOverlapping(Interval interval) {
+        requireNonNull(interval);
+        List<Session> overlapping = new ArrayList<>();
+        if (durationCounts.isEmpty()) {
+            return overlapping;
+        }
+
+        LocalDateTime earliestPossibleStart = interval.getStart().minusMinutes(durationCounts.lastKey());
+        for (List<Session> sessionsWithSameStart : sessionsByStart
+                .subMap(earliestPossibleStart, false, interval.getEnd(), false).values()) {
+            for (Session session : sessionsWithSameStart) {
+                if (Interval.isOverlap(session.getInterval(), interval)) {
+                    overlapping.add(session);
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Sorts {@code elements} by start time and sweeps through them once, keeping the session that ends last so far.
+     * A session overlaps one of the sessions before it if and only if it overlaps the one among them that ends last,
+     * so the check takes O(n log n) time.
+     */
+    @Override
+    public void requireUnique(List<? extends Session> elements) {
+        List<Session> sessionsByStartTime = new ArrayList<>(elements);
+        sessionsByStartTime.sort(Comparator.comparing(Session::getStartTime));
+
+        Session latestEndingSession = null;
+        for (Session session : sessionsByStartTime) {
+            if (latestEndingSession != null
+                    && Interval.isOverlap(latestEndingSession.getInterval(), session.getInterval())) {
+                throw new DuplicateEntityException(latestEndingSession, session);
+            }
+            if (latestEndingSession == null || session.getEndTime().isAfter(latestEndingSession.getEndTime())) {
+                latestEndingSession = session;
+            }
+        }
+    }
+
+    @Override
+    public void add(Session element) {
+        sessionsByStart.computeIfAbsent(element.getStartTime(), unused -> new ArrayList<>(1)).add(element);
+        durationCounts.merge(element.getInterval().getDurationInMinutes(), 1, Integer::sum);
+    }
+
+    @Override
+    public void remove(Session element) {
+        List<Session> sessionsWithSameStart = sessionsByStart.get(element.getStartTime());
+        if (sessionsWithSameStart == null || !sessionsWithSameStart.remove(element)) {
+            return;
+        }
+        if (sessionsWithSameStart.isEmpty()) {
+            sessionsByStart.remove(element.getStartTime());
+        }
+        durationCounts.computeIfPresent(element.getInterval().getDurationInMinutes(),
+            (duration, count) -> count == 1 ? null : count - 1);
+    }
+
+    @Override
+    public void clear() {
+        sessionsByStart.clear();
+        durationCounts.clear();
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Session} is within a range of times whose bounds are fixed when the range is created.
+ * Since sessions do not overlap, sessions in ascending start time order are in ascending end time order as well, so
+ * the sessions in a range are consecutive in that order and can be found with {@link #isBefore(Session)} and
+ * {@link #isAfter(Session)} by binary search.
+ */
+public class SessionRange implements Predicate<Session> {
+
+    public static final SessionRange ALL = new SessionRange(unused -> false, unused -> false);
+
+    private final Predicate<Session> isBefore;
+    private final Predicate<Session> isAfter;
+
+    private SessionRange(Predicate<Session> isBefore, Predicate<Session> isAfter) {
+        this.isBefore = isBefore;
+        this.isAfter = isAfter;
+    }
+
+    /**
+     * Returns the range of sessions that start from {@code start} until, but not including, {@code end}.
+     */
+    public static SessionRange startingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return new SessionRange(session -> session.getStartTime().isBefore(start),
+                session -> !session.getStartTime().isBefore(end));
+    }
+
+    /**
+     * Returns the range of sessions that start after {@code time}.
+     */
+    public static SessionRange startingAfter(LocalDateTime time) {
+        requireNonNull(time);
+        return new SessionRange(session -> !session.getStartTime().isAfter(time), unused -> false);
+    }
+
+    /**
+     * Returns the range of sessions that end before {@code time}.
+     */
+    public static SessionRange endingBefore(LocalDateTime time) {
+        requireNonNull(time);
+        return new SessionRange(unused -> false, session -> !session.getEndTime().isBefore(time));
+    }
+
+    /**
+     * Returns true if {@code session} comes before the sessions in this range in start time order.
+     */
+    public boolean isBefore(Session session) {
+        return isBefore.test(session);
+    }
+
+    /**
+     * Returns true if {@code session} comes after the sessions in this range in start time order.
+     */
+    public boolean isAfter(Session session) {
+        return isAfter.test(session);
+    }
+
+    @Override
+    public boolean test(Session session) {
+        return !isBefore(session) && !isAfter(session);
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the sessions in a {@link SessionRange}, out of a list of sessions in ascending start time order.
+ * The first and last sessions in the range are found by binary search when the range is set or the list changes,
+ * and the view reads through to the consecutive sessions between them, so that no session outside the range is
+ * tested. Changes to the list are reported only for the sessions in the range.
+ */
+public class SessionRangeList extends TransformationList<Session, Session> {
+
+    private SessionRange range = SessionRange.ALL;
+    private int from;
+    private int to;
+
+    /**
+     * Creates a view of every session in {@code source}, which must be in ascending start time order.
+     */
+    public SessionRangeList(ObservableList<Session> source) {
+        super(source);
+        findBounds();
+    }
+
+    /**
+     * Shows the sessions in {@code range} instead of those in the current range.
+     */
+    public void setRange(SessionRange range) {
+        requireNonNull(range);
+        List<Session> removed = new ArrayList<>(this);
+        this.range = range;
+        findBounds();
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    /**
+     * Finds the bounds of the range in the source list again, and reports the sessions added to and removed from
+     * the source list within the range at their positions in the view.
+     * The sessions of each change are in ascending start time order like the rest of the source list, so those in
+     * the range are consecutive, and the sessions before each change are already where they are in the changed
+     * source list.
+     */
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Session> change) {
+        findBounds();
+
+        beginChange();
+        while (change.next()) {
+            assert !change.wasPermutated() : "Sessions in ascending start time order are never permutated";
+            int viewIndex = Math.max(change.getFrom(), from) - from;
+            List<Session> removedInRange = new ArrayList<>();
+            for (Session removed : change.getRemoved()) {
+                if (range.test(removed)) {
+                    removedInRange.add(removed);
+                }
+            }
+            if (!removedInRange.isEmpty()) {
+                nextRemove(viewIndex, removedInRange);
+            }
+            int addedTo = Math.min(change.getTo(), to) - from;
+            if (addedTo > viewIndex) {
+                nextAdd(viewIndex, addedTo);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Finds the bounds of the range in the source list.
+     */
+    private void findBounds() {
+        from = firstIndexWhere(session -> !range.isBefore(session), 0);
+        to = firstIndexWhere(range::isAfter, from);
+    }
+
+    /**
+     * Returns the index of the first session in the source list, from {@code start} onwards, that satisfies
+     * {@code condition}, or the size of the source list if there is none.
+     * The sessions that satisfy {@code condition} must all come after those that do not.
+     */
+    private int firstIndexWhere(Predicate<Session> condition, int start) {
+        List<? extends Session> source = getSource();
+        int low = start;
+        int high = source.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (condition.test(source.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public Session get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return getSource().get(from + index);
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return from + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= from && index < to ? index - from : -1;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.IdentityIndex;
+import seedu.address.model.UniqueList;
+
+/**
+ * A {@code UniqueList} of Sessions backed by a {@link SessionIntervalIndex},
+ * so that overlap checks do not have to scan every session, and by a {@link SessionCalendar}, so that finding the
+ * sessions on a day does not either.
+ * The list is always in ascending start time order: sessions are inserted where they belong, and an edited session
+ * is moved only if its start time changes its position.
+ */
+public class UniqueSessionList extends UniqueList<Session> {
+
+    private final SessionIntervalIndex intervalIndex;
+    private final SessionCalendar calendar;
+
+    public UniqueSessionList() {
+        this(new SessionIntervalIndex(), new SessionCalendar());
+    }
+
+    private UniqueSessionList(SessionIntervalIndex intervalIndex, SessionCalendar calendar) {
+        super(new CalendarUpdatingIndex(intervalIndex, calendar), Comparator.comparing(Session::getStartTime));
+        this.intervalIndex = intervalIndex;
+        this.calendar = calendar;
+    }
+
+    /**
+     * Returns every session in the list whose interval overlaps {@code interval}, in ascending start time order.
+     */
+    public List<Session> findOverlapping(Interval interval) {
+        requireNonNull(interval);
+        return intervalIndex.findOverlapping(interval);
+    }
+
+    /**
+     * Returns every session in the list that takes place on any day from {@code firstDay} until, but not including,
+     * {@code endDay}, in ascending start time order.
+     */
+    public List<Session> findBetween(LocalDate firstDay, LocalDate endDay) {
+        return calendar.getSessionsBetween(firstDay, endDay);
+    }
+
+    /**
+     * Checks identity through a {@code SessionIntervalIndex}, and files every session added to it in a
+     * {@code SessionCalendar} as well.
+     */
+    private static class CalendarUpdatingIndex implements IdentityIndex<Session> {
+        private final SessionIntervalIndex intervalIndex;
+        private final SessionCalendar calendar;
+
+        CalendarUpdatingIndex(SessionIntervalIndex intervalIndex, SessionCalendar calendar) {
+            this.intervalIndex = intervalIndex;
+            this.calendar = calendar;
+        }
+
+        @Override
+        public Optional<Session> findIdentical(Session toCheck) {
+            return intervalIndex.findIdentical(toCheck);
+        }
+
+        @Override
+        public void requireUnique(List<? extends Session> elements) {
+            intervalIndex.requireUnique(elements);
+        }
+
+        @Override
+        public void add(Session element) {
+            intervalIndex.add(element);
+            calendar.add(element);
+        }
+
+        @Override
+        public void remove(Session element) {
+            intervalIndex.remove(element);
+            calendar.remove(element);
+        }
+
+        @Override
+        public void clear() {
+            intervalIndex.clear();
+            calendar.clear();
+        }
+    }
+}
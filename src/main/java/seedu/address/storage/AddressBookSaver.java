@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * Address books passed in while an earlier one is waiting to be saved replace it, so that a burst of changes is
+ * saved with a single write of the latest address book, together with the changes made to each of them in order.
+ */
+class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBookSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // The address book waiting to be saved and its changes, or null if there is none
+    private ReadOnlyAddressBook pendingAddressBook;
+    private List<AddressBookChanges> pendingChanges;
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> {};
+    private final Runnable saveListener;
+
+    AddressBookSaver(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, () -> {});
+    }
+
+    /**
+     * Constructs an {@code AddressBookSaver} that calls {@code saveListener}, on the background thread, after every
+     * save that succeeds.
+     */
+    AddressBookSaver(AddressBookStorage addressBookStorage, Runnable saveListener) {
+        this.addressBookStorage = addressBookStorage;
+        this.saveListener = saveListener;
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, with the error of every save that fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} as it is now, which differs from the one passed in before by
+     * {@code changes}, once the saves before it are done.
+     * Only the lists of clients, sessions and schedules are copied on the calling thread.
+     */
+    void save(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            boolean isSaveWaiting = pendingAddressBook != null;
+            pendingAddressBook = snapshot;
+            if (isSaveWaiting) {
+                pendingChanges.add(changes);
+                return;
+            }
+            pendingChanges = new ArrayList<>(List.of(changes));
+        }
+        executor.execute(this::savePendingAddressBook);
+    }
+
+    private void savePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        List<AddressBookChanges> changes;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            changes = pendingChanges;
+            pendingAddressBook = null;
+            pendingChanges = null;
+        }
+        try {
+            addressBookStorage.saveAddressBook(addressBook, changes);
+            saveListener.run();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(ioe));
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the background thread once the address books passed to
+     * {@link #save(ReadOnlyAddressBook, AddressBookChanges)} so far are saved, so that it does not use the storage
+     * at the same time.
+     */
+    void execute(Runnable task) {
+        requireNonNull(task);
+        executor.execute(task);
+    }
+
+    /**
+     * Waits for the address books passed to {@link #save(ReadOnlyAddressBook, AddressBookChanges)} so far to be
+     * saved.
+     */
+    void flush() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Flushing does not run anything that can fail.", e);
+        }
+    }
+}
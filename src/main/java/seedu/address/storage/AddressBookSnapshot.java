@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.session.Session;
+
+/**
+ * The clients, sessions and schedules of an address book at one point in time.
+ * Taking a snapshot only copies the references to the immutable clients, sessions and schedules, and the
+ * {@code AddressBook} with their indexes is only built the first time the snapshot is read, so that it is built on
+ * the thread that saves the snapshot. A snapshot must only be read from one thread.
+ * The largest session id handed out is kept as well, since sessions that are not loaded may have larger ids.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<Client> clients;
+    private final List<Session> sessions;
+    private final List<Schedule> schedules;
+    private final long version;
+    private final long lastSessionId;
+    private AddressBook addressBook;
+
+    /**
+     * Takes a snapshot of {@code addressBook} as it is now.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        clients = List.copyOf(addressBook.getClientList());
+        sessions = List.copyOf(addressBook.getSessionList());
+        schedules = List.copyOf(addressBook.getScheduleList());
+        version = addressBook.getVersion();
+        lastSessionId = addressBook.getLastSessionId();
+    }
+
+    private AddressBook getAddressBook() {
+        if (addressBook == null) {
+            addressBook = new AddressBook();
+            addressBook.setClients(clients);
+            addressBook.setSessions(sessions);
+            addressBook.setSchedules(schedules);
+            addressBook.reserveSessionIds(lastSessionId);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return getAddressBook().getClientList();
+    }
+
+    @Override
+    public ObservableList<Session> getSessionList() {
+        return getAddressBook().getSessionList();
+    }
+
+    @Override
+    public ObservableList<Schedule> getScheduleList() {
+        return getAddressBook().getScheduleList();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getLastSessionId() {
+        return lastSessionId;
+    }
+
+    @Override
+    public List<Schedule> findSchedulesBetween(LocalDate firstDay, LocalDate endDay) {
+        return getAddressBook().findSchedulesBetween(firstDay, endDay);
+    }
+}
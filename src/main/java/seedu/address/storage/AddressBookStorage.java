@@ -2,9 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -17,6 +21,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the paths of the files that saves to {@link #getAddressBookFilePath()} write, which are all in the
+     * directory of the data file.
+     */
+    default List<Path> getDataFilePaths() {
+        return List.of(getAddressBookFilePath());
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -30,6 +42,37 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns AddressBook data with all the clients, but only the sessions from {@code since} on and their
+     * schedules, leaving out the rest until {@link #readHistory()} is called.
+     * Storages that cannot read part of their data read all of it.
+     * @see #readAddressBook()
+     */
+    default Optional<ReadOnlyAddressBook> readRecentAddressBook(LocalDate since)
+            throws DataConversionException, IOException {
+        return readAddressBook();
+    }
+
+    /**
+     * Returns all of the AddressBook data as it is in storage, including the sessions left out by
+     * {@link #readRecentAddressBook(LocalDate)}, without changing what later saves expect the address book to hold.
+     * @see #readAddressBook()
+     */
+    default Optional<ReadOnlyAddressBook> readSavedAddressBook() throws DataConversionException, IOException {
+        return readAddressBook();
+    }
+
+    /**
+     * Returns the sessions, and their schedules, left out by the last {@link #readRecentAddressBook(LocalDate)},
+     * together with the clients they are associated with.
+     * Once this is called, saves expect the address book to have these sessions as well.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default ReadOnlyAddressBook readHistory() throws DataConversionException, IOException {
+        return new AddressBook();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +85,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook}, which differs from the address book that this storage last saved
+     * or read by {@code changes}, made one after another in the order of the list, to the storage.
+     * Storages that cannot save only the changes save the whole address book.
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChanges> changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
 }
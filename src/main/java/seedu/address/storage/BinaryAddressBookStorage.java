@@ -0,0 +1,682 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.exceptions.DuplicateEntityException;
+import seedu.address.model.exceptions.EntityNotFoundException;
+import seedu.address.model.schedule.PaymentStatus;
+import seedu.address.model.schedule.Remark;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Weight;
+import seedu.address.model.session.ExerciseType;
+import seedu.address.model.session.Gym;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.Session;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with the magic bytes {@code FEGO} and a format version, followed by a table of the strings that
+ * are repeated across records (gyms, exercise types, tags and payment statuses), and then the clients, sessions
+ * and schedules, each list prefixed by its size. Every record is prefixed by its length, so that later versions
+ * can add fields to the end of a record. Integers are written as varints, start times as minutes since the epoch,
+ * strings as their UTF-8 length and bytes, and repeated strings as their index in the string table.
+ * Since version 2, the file ends with a CRC-32 of all the bytes before it, which is computed as the file is read,
+ * so that a damaged file is detected without reading it twice.
+ * <p>
+ * Files are replaced atomically, and the previous file is kept to be read instead if the current one is damaged.
+ * <p>
+ * The file can be read through a memory mapping, in which case the records are parsed from the mapped pages
+ * without the file being copied into the heap first.
+ * <p>
+ * Files that do not start with the magic bytes are read as json, so that json data files are imported on the
+ * first save. {@link #exportToJson(ReadOnlyAddressBook, Path)} converts the data back to json.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 2;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The data file has format version %d, but only "
+            + "versions up to " + FORMAT_VERSION + " can be read.";
+    public static final String MESSAGE_CORRUPTED_FILE = "The data file is corrupted.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The data file is corrupted, as its checksum does not "
+            + "match its contents.";
+
+    private static final byte[] MAGIC = {'F', 'E', 'G', 'O'};
+    private static final int FIRST_CHECKSUMMED_VERSION = 2;
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isMemoryMapped;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} that reads the data file through a memory mapping if
+     * {@code isMemoryMapped}, and through a buffered stream otherwise.
+     * Some platforms do not allow a mapped file to be replaced until the mapping is garbage collected, so mapped
+     * reads are best left to platforms that do, such as Linux and macOS.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped) {
+        this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return JsonAddressBookStorage.readFallingBackToPrevious(filePath, this::readGeneration);
+    }
+
+    private Optional<ReadOnlyAddressBook> readGeneration(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileInput input = isMemoryMapped ? MappedFileInput.map(filePath) : StreamFileInput.open(filePath)) {
+            if (!input.readMagic()) {
+                logger.info("Importing json file " + filePath);
+                return importFromJson(filePath);
+            }
+            return Optional.of(readAddressBook(input));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the AddressBook data from the json file at {@code jsonFilePath}.
+     */
+    public static Optional<ReadOnlyAddressBook> importFromJson(Path jsonFilePath) throws DataConversionException {
+        return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+    }
+
+    /**
+     * Saves {@code addressBook} to the json file at {@code jsonFilePath}.
+     */
+    public static void exportToJson(ReadOnlyAddressBook addressBook, Path jsonFilePath) throws IOException {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomicallyKeepingPrevious(filePath, fileOutput -> {
+            CRC32 checksum = new CRC32();
+            try (OutputStream output = new BufferedOutputStream(new CheckedOutputStream(fileOutput, checksum))) {
+                writeAddressBook(addressBook, output);
+                output.flush();
+                writeChecksum(output, checksum.getValue());
+            }
+        });
+    }
+
+    //// writing
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream output) throws IOException {
+        StringTable strings = new StringTable(addressBook);
+        RecordOutput record = new RecordOutput();
+
+        output.write(MAGIC);
+        writeVarLong(output, FORMAT_VERSION);
+
+        for (String string : strings.getStrings()) {
+            record.writeString(string);
+        }
+        writeVarLong(output, strings.getStrings().size());
+        record.writeRecordTo(output);
+
+        writeVarLong(output, addressBook.getClientList().size());
+        for (Client client : addressBook.getClientList()) {
+            record.writeVarLong(client.getId());
+            record.writeString(client.getName().fullName);
+            record.writeString(client.getPhone().value);
+            record.writeString(client.getEmail().value);
+            record.writeString(client.getAddress().value);
+            record.writeVarLong(client.getTags().size());
+            for (Tag tag : client.getTags()) {
+                record.writeVarLong(strings.indexOf(tag.tagName));
+            }
+            record.writeRecordTo(output);
+        }
+
+        writeVarLong(output, addressBook.getSessionList().size());
+        for (Session session : addressBook.getSessionList()) {
+            record.writeVarLong(session.getId());
+            record.writeVarLong(strings.indexOf(session.getGym().toString()));
+            record.writeVarLong(strings.indexOf(session.getExerciseType().toString()));
+            record.writeVarLong(zigZag(toEpochMinute(session.getStartTime())));
+            record.writeVarLong(session.getInterval().getDurationInMinutes());
+            record.writeRecordTo(output);
+        }
+
+        writeVarLong(output, addressBook.getScheduleList().size());
+        for (Schedule schedule : addressBook.getScheduleList()) {
+            record.writeVarLong(schedule.getClientId());
+            record.writeVarLong(schedule.getSessionId());
+            record.writeVarLong(strings.indexOf(schedule.getPaymentStatus().getValue()));
+            record.writeString(schedule.getRemark().value);
+            record.writeDouble(schedule.getWeight().getWeight());
+            record.writeRecordTo(output);
+        }
+    }
+
+    private static void writeChecksum(OutputStream output, long checksum) throws IOException {
+        for (int shift = Integer.SIZE - 8; shift >= 0; shift -= 8) {
+            output.write((int) (checksum >>> shift));
+        }
+    }
+
+    /**
+     * The strings that are repeated across the records of an address book, each stored once in the file.
+     */
+    private static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        StringTable(ReadOnlyAddressBook addressBook) {
+            addressBook.getClientList().forEach(client -> client.getTags().forEach(tag -> add(tag.tagName)));
+            addressBook.getSessionList().forEach(session -> {
+                add(session.getGym().toString());
+                add(session.getExerciseType().toString());
+            });
+            addressBook.getScheduleList().forEach(schedule -> add(schedule.getPaymentStatus().getValue()));
+        }
+
+        private void add(String string) {
+            if (indexes.putIfAbsent(string, strings.size()) == null) {
+                strings.add(string);
+            }
+        }
+
+        List<String> getStrings() {
+            return strings;
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+    }
+
+    //// reading
+
+    private static AddressBook readAddressBook(FileInput input) throws IOException, IllegalValueException {
+        long version = input.readVarLong();
+        if (version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = input.readCount();
+        RecordInput stringRecord = input.readRecord();
+        List<String> strings = new ArrayList<>(stringCount);
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(stringRecord.readString());
+        }
+
+        try {
+            AddressBook addressBook = new AddressBook();
+
+            int clientCount = input.readCount();
+            List<Client> clients = new ArrayList<>(clientCount);
+            Set<Long> clientIds = new HashSet<>();
+            for (int i = 0; i < clientCount; i++) {
+                RecordInput record = input.readRecord();
+                long id = record.readId();
+                if (!clientIds.add(id)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT_ID);
+                }
+                Name name = new Name(record.readString());
+                Phone phone = new Phone(record.readString());
+                Email email = new Email(record.readString());
+                Address address = new Address(record.readString());
+                int tagCount = record.readCount();
+                Set<Tag> tags = new HashSet<>();
+                for (int j = 0; j < tagCount; j++) {
+                    tags.add(new Tag(record.readString(strings)));
+                }
+                clients.add(new Client(id, name, phone, email, address, tags));
+            }
+            try {
+                addressBook.setClients(clients);
+            } catch (DuplicateEntityException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+            }
+
+            int sessionCount = input.readCount();
+            List<Session> sessions = new ArrayList<>(sessionCount);
+            Set<Long> sessionIds = new HashSet<>();
+            for (int i = 0; i < sessionCount; i++) {
+                RecordInput record = input.readRecord();
+                long id = record.readId();
+                if (!sessionIds.add(id)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_SESSION_ID);
+                }
+                Gym gym = new Gym(record.readString(strings));
+                ExerciseType exerciseType = new ExerciseType(record.readString(strings));
+                LocalDateTime start = fromEpochMinute(unZigZag(record.readVarLong()));
+                Interval interval = new Interval(start, record.readCount());
+                sessions.add(new Session(id, gym, exerciseType, interval));
+            }
+            try {
+                addressBook.setSessions(sessions);
+            } catch (DuplicateEntityException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_SESSION);
+            }
+
+            int scheduleCount = input.readCount();
+            for (int i = 0; i < scheduleCount; i++) {
+                RecordInput record = input.readRecord();
+                long clientId = record.readId();
+                long sessionId = record.readId();
+                Client client = addressBook.getClientById(clientId).orElseThrow(() -> new IllegalValueException(
+                        String.format(JsonScheduleResolver.CLIENT_ID_NOT_FOUND, clientId)));
+                Session session = addressBook.getSessionById(sessionId).orElseThrow(() -> new IllegalValueException(
+                        String.format(JsonScheduleResolver.SESSION_ID_NOT_FOUND, sessionId)));
+                PaymentStatus paymentStatus = new PaymentStatus(record.readString(strings));
+                Remark remark = new Remark(record.readString());
+                double weight = record.readDouble();
+                Weight modelWeight = weight == 0 ? Weight.getDefaultWeight() : new Weight(weight);
+
+                Schedule schedule = new Schedule(client, session, paymentStatus, remark, modelWeight);
+                if (addressBook.hasSchedule(schedule)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_SCHEDULE);
+                }
+                addressBook.addSchedule(schedule);
+            }
+
+            if (version >= FIRST_CHECKSUMMED_VERSION) {
+                input.verifyChecksum();
+            }
+            return addressBook;
+        } catch (IllegalArgumentException | EntityNotFoundException e) {
+            // Invalid values are rejected by the constructors of the model's value objects
+            throw new IllegalValueException(e.getMessage() == null ? MESSAGE_CORRUPTED_FILE : e.getMessage(), e);
+        }
+    }
+
+    private static int toCount(long value) throws IllegalValueException {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return (int) value;
+    }
+
+    /**
+     * The bytes of a data file being read.
+     */
+    private interface FileInput extends Closeable {
+
+        /**
+         * Reads the first bytes of the file, and returns true if they are the magic bytes of this format.
+         */
+        boolean readMagic() throws IOException;
+
+        long readVarLong() throws IOException, IllegalValueException;
+
+        default int readCount() throws IOException, IllegalValueException {
+            return toCount(readVarLong());
+        }
+
+        /**
+         * Reads the length of the next record, and then the record.
+         */
+        RecordInput readRecord() throws IOException, IllegalValueException;
+
+        /**
+         * Reads the checksum at the end of the file and compares it to the checksum of the bytes read before it.
+         *
+         * @throws IllegalValueException if the checksums differ, or the checksum is not at the end of the file.
+         */
+        void verifyChecksum() throws IOException, IllegalValueException;
+    }
+
+    /**
+     * A data file read through a buffered stream, which computes the checksum of the bytes as they are read.
+     */
+    private static class StreamFileInput implements FileInput {
+        private final CheckedInputStream input;
+
+        private StreamFileInput(CheckedInputStream input) {
+            this.input = input;
+        }
+
+        static StreamFileInput open(Path filePath) throws IOException {
+            return new StreamFileInput(new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(filePath)), new CRC32()));
+        }
+
+        @Override
+        public boolean readMagic() throws IOException {
+            return Arrays.equals(input.readNBytes(MAGIC.length), MAGIC);
+        }
+
+        @Override
+        public long readVarLong() throws IOException, IllegalValueException {
+            return BinaryAddressBookStorage.readVarLong(input);
+        }
+
+        @Override
+        public RecordInput readRecord() throws IOException, IllegalValueException {
+            int length = readCount();
+            byte[] bytes = input.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException(MESSAGE_CORRUPTED_FILE);
+            }
+            return new RecordInput(ByteBuffer.wrap(bytes));
+        }
+
+        @Override
+        public void verifyChecksum() throws IOException, IllegalValueException {
+            long expectedChecksum = input.getChecksum().getValue();
+            byte[] checksumBytes = input.readNBytes(CHECKSUM_LENGTH);
+            if (checksumBytes.length != CHECKSUM_LENGTH) {
+                throw new EOFException(MESSAGE_CORRUPTED_FILE);
+            }
+            if (ByteBuffer.wrap(checksumBytes).getInt() != (int) expectedChecksum || input.read() >= 0) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+
+    /**
+     * A data file read through a memory mapping, whose records are views of the mapped pages.
+     * The mapping is released when it is garbage collected, as there is no way to unmap it explicitly.
+     */
+    private static class MappedFileInput implements FileInput {
+        private final ByteBuffer buffer;
+
+        private MappedFileInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        static MappedFileInput map(Path filePath) throws IOException {
+            // The mapping stays valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                return new MappedFileInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+
+        @Override
+        public boolean readMagic() {
+            if (buffer.remaining() < MAGIC.length) {
+                return false;
+            }
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            return Arrays.equals(magic, MAGIC);
+        }
+
+        @Override
+        public long readVarLong() throws IOException, IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (!buffer.hasRemaining()) {
+                    throw new EOFException(MESSAGE_CORRUPTED_FILE);
+                }
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        @Override
+        public RecordInput readRecord() throws IOException, IllegalValueException {
+            int length = readCount();
+            if (length > buffer.remaining()) {
+                throw new EOFException(MESSAGE_CORRUPTED_FILE);
+            }
+            ByteBuffer record = buffer.slice().limit(length);
+            buffer.position(buffer.position() + length);
+            return new RecordInput(record);
+        }
+
+        @Override
+        public void verifyChecksum() throws IOException, IllegalValueException {
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate().flip());
+            if (buffer.remaining() < CHECKSUM_LENGTH) {
+                throw new EOFException(MESSAGE_CORRUPTED_FILE);
+            }
+            if (buffer.getInt() != (int) checksum.getValue() || buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /**
+     * A record being read, which fails with {@link #MESSAGE_CORRUPTED_FILE} if it is shorter than expected.
+     * Any bytes left in the record after the fields that are read belong to fields of later format versions.
+     */
+    private static class RecordInput {
+        private final ByteBuffer bytes;
+
+        RecordInput(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        private void require(int length) throws IllegalValueException {
+            if (length > bytes.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+        }
+
+        long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                require(1);
+                byte b = bytes.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        int readCount() throws IllegalValueException {
+            return toCount(readVarLong());
+        }
+
+        long readId() throws IllegalValueException {
+            long id = readVarLong();
+            if (id <= 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return id;
+        }
+
+        String readString() throws IllegalValueException {
+            int length = readCount();
+            require(length);
+            if (bytes.hasArray()) {
+                String string = new String(bytes.array(), bytes.arrayOffset() + bytes.position(), length,
+                        StandardCharsets.UTF_8);
+                bytes.position(bytes.position() + length);
+                return string;
+            }
+            // Only the string itself is copied out of a mapped record
+            byte[] stringBytes = new byte[length];
+            bytes.get(stringBytes);
+            return new String(stringBytes, StandardCharsets.UTF_8);
+        }
+
+        String readString(List<String> strings) throws IllegalValueException {
+            int index = readCount();
+            if (index >= strings.size()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return strings.get(index);
+        }
+
+        double readDouble() throws IllegalValueException {
+            require(Double.BYTES);
+            return bytes.getDouble();
+        }
+    }
+
+    /**
+     * A record being written, which is written out with its length once it is complete.
+     */
+    private static class RecordOutput extends ByteArrayOutputStream {
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String string) {
+            byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(stringBytes.length);
+            writeBytes(stringBytes);
+        }
+
+        void writeDouble(double value) {
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+                write((int) (bits >>> shift));
+            }
+        }
+
+        /**
+         * Writes the length and bytes of this record to {@code output}, and starts a new record.
+         */
+        void writeRecordTo(OutputStream output) throws IOException {
+            BinaryAddressBookStorage.writeVarLong(output, size());
+            super.writeTo(output);
+            reset();
+        }
+    }
+
+    //// encoding
+
+    private static void writeVarLong(OutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static long readVarLong(InputStream input) throws IOException, IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = input.read();
+            if (b < 0) {
+                throw new EOFException(MESSAGE_CORRUPTED_FILE);
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
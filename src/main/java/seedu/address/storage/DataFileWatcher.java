@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the data files in a directory on a background thread, and calls a listener when any of them is created or
+ * modified.
+ * Files that are written in several steps, as by file syncing tools, are reported once they stop changing.
+ */
+class DataFileWatcher implements Closeable {
+
+    // How long the file must stay unchanged before it is reported
+    private static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Set<Path> fileNames;
+    private final Runnable changeListener;
+    private final WatchService watchService;
+
+    private DataFileWatcher(Set<Path> fileNames, Runnable changeListener, WatchService watchService) {
+        this.fileNames = fileNames;
+        this.changeListener = changeListener;
+        this.watchService = watchService;
+    }
+
+    /**
+     * Starts watching the files at {@code filePaths}, which must all be in the same directory, calling
+     * {@code changeListener} on the watching thread whenever any of them changes.
+     *
+     * @throws IOException if the directory of the files cannot be watched.
+     */
+    static DataFileWatcher start(List<Path> filePaths, Runnable changeListener) throws IOException {
+        assert !filePaths.isEmpty();
+        Path directory = filePaths.get(0).toAbsolutePath().getParent();
+        assert filePaths.stream().allMatch(filePath -> directory.equals(filePath.toAbsolutePath().getParent()));
+        WatchService watchService = directory.getFileSystem().newWatchService();
+        try {
+            // Files replaced by renaming another file over them are reported as created
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+
+        Set<Path> fileNames = filePaths.stream().map(Path::getFileName).collect(Collectors.toUnmodifiableSet());
+        DataFileWatcher watcher = new DataFileWatcher(fileNames, changeListener, watchService);
+        Thread thread = new Thread(watcher::watch, "DataFileWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!isFileChanged(watchService.take())) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isFileChanged(key);
+                }
+                changeListener.run();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching " + fileNames);
+        }
+    }
+
+    private boolean isFileChanged(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isChanged |= event.kind() == OVERFLOW || fileNames.contains(event.context());
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    /**
+     * Stops watching the files.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,478 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot followed by a journal of changes.
+ * Each save of the changes made since the previous save appends a line to the journal for each set of changes,
+ * with only those changes, instead of rewriting the whole snapshot. Saves without the changes, and saves once the
+ * journal has grown past a threshold, compact the journal into a new snapshot.
+ * Reading replays the journal on top of the snapshot.
+ * The snapshot ends with a line holding the CRC-32 of the json before it, which is checked before the json is
+ * parsed. Compacting keeps the snapshot and journal it replaces as the previous generation, which is read instead if
+ * the current one cannot be.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal entries after which the journal is compacted into the snapshot. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String MESSAGE_CORRUPTED_ENTRY = "An entry before the last one is corrupted in journal ";
+    private static final String MESSAGE_CHECKSUM_MISMATCH = "The snapshot is corrupted, as its checksum does not "
+            + "match its contents.";
+    private static final String CHECKSUM_LINE_PREFIX = "// crc32 ";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    /** Whether the files at {@code filePath} hold the address book that was last read or saved. */
+    private boolean isJournalCurrent;
+    private int journalEntryCount;
+    /** Whether the last journal read ended with an entry that was not completely written. */
+    private boolean hasIncompleteEntry;
+    /** Whether the files at {@code filePath} could not be read the last time they were, and are not kept. */
+    private boolean hasDamagedFiles;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage} that compacts its journal after
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return List.of(filePath, getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the location of the journal that follows the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        return JsonAddressBookStorage.readFallingBackToPrevious(filePath, generationFilePath ->
+                read(generationFilePath, isOwnFile && generationFilePath.equals(filePath)));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readSavedAddressBook() throws DataConversionException {
+        return JsonAddressBookStorage.readFallingBackToPrevious(filePath, generationFilePath ->
+                read(generationFilePath, false));
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal. If {@code isSavedData}, later saves append to
+     * the journal that was read, or compact it if it cannot be read.
+     */
+    private Optional<ReadOnlyAddressBook> read(Path filePath, boolean isSavedData) throws DataConversionException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (isSavedData) {
+            // Until the files are read, saves cannot append to them, and compacting does not keep them
+            isJournalCurrent = false;
+            hasDamagedFiles = true;
+        }
+
+        try {
+            recoverInterruptedCompaction(filePath);
+        } catch (IOException e) {
+            logger.warning("Error recovering snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        AddressBook addressBook;
+        int entryCount;
+        try {
+            Optional<JsonSerializableAddressBook> jsonAddressBook = readSnapshot(filePath);
+            if (jsonAddressBook.isEmpty() && !Files.exists(journalFilePath)) {
+                if (isSavedData) {
+                    hasDamagedFiles = false;
+                }
+                return Optional.empty();
+            }
+            addressBook = jsonAddressBook.isPresent() ? jsonAddressBook.get().toModelType() : new AddressBook();
+            hasIncompleteEntry = false;
+            entryCount = replayJournal(journalFilePath, addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + " or its journal: " + e);
+            throw new DataConversionException(e);
+        }
+
+        if (isSavedData) {
+            isJournalCurrent = true;
+            hasDamagedFiles = false;
+            // New entries cannot follow an incomplete one, so the next save compacts the journal instead
+            journalEntryCount = hasIncompleteEntry ? compactionThreshold : entryCount;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the snapshot at {@code filePath}, or an empty {@code Optional} if there is none.
+     *
+     * @throws IllegalValueException if the snapshot does not match its checksum.
+     * @throws IOException if the snapshot cannot be read or parsed.
+     */
+    private static Optional<JsonSerializableAddressBook> readSnapshot(Path filePath)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        byte[] snapshot = Files.readAllBytes(filePath);
+        int jsonLength = getCheckedJsonLength(snapshot);
+        return Optional.of(JsonUtil.readJson(new ByteArrayInputStream(snapshot, 0, jsonLength),
+                JsonSerializableAddressBook.class));
+    }
+
+    /**
+     * Returns the length of the json at the start of {@code snapshot}, after checking it against the checksum line
+     * that follows it. Snapshots written before they had checksums only hold the json.
+     *
+     * @throws IllegalValueException if the json does not match the checksum.
+     */
+    private static int getCheckedJsonLength(byte[] snapshot) throws IllegalValueException {
+        int end = snapshot.length;
+        while (end > 0 && (snapshot[end - 1] == '\n' || snapshot[end - 1] == '\r')) {
+            end--;
+        }
+        int lastLineStart = end;
+        while (lastLineStart > 0 && snapshot[lastLineStart - 1] != '\n') {
+            lastLineStart--;
+        }
+        String lastLine = new String(snapshot, lastLineStart, end - lastLineStart, StandardCharsets.UTF_8);
+        if (!lastLine.startsWith(CHECKSUM_LINE_PREFIX)) {
+            return snapshot.length;
+        }
+
+        // The json is followed by the line separator before the checksum line
+        int jsonLength = lastLineStart - 1;
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot, 0, jsonLength);
+        try {
+            if (Long.parseLong(lastLine.substring(CHECKSUM_LINE_PREFIX.length()), 16) != checksum.getValue()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH, e);
+        }
+        return jsonLength;
+    }
+
+    /**
+     * Moves a snapshot left behind by an interrupted compaction into place, if the journal it replaces has already
+     * been deleted. Otherwise the snapshot at {@code filePath} and its journal are still complete, and the
+     * left-behind snapshot is discarded.
+     */
+    private static void recoverInterruptedCompaction(Path filePath) throws IOException {
+        Path tempFilePath = getTempFilePath(filePath);
+        if (!Files.exists(tempFilePath)) {
+            return;
+        }
+        if (Files.exists(getJournalFilePath(filePath))) {
+            Files.delete(tempFilePath);
+        } else {
+            logger.info("Recovering snapshot " + filePath + " from an interrupted compaction");
+            FileUtil.moveReplacing(tempFilePath, filePath);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath}, if any, to {@code addressBook}.
+     * A last entry that is cut short or does not match its checksum is ignored, as it was being written when the
+     * application stopped.
+     *
+     * @return the number of entries applied.
+     * @throws IOException if an entry before the last one does not match its length or checksum.
+     */
+    private int replayJournal(Path journalFilePath, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        // Bytes of a character that was cut short are decoded as a replacement character instead of failing
+        String journal = new String(Files.readAllBytes(journalFilePath), StandardCharsets.UTF_8);
+        String[] lines = journal.split("\n", -1);
+        int entryCount = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+            Optional<JsonJournalEntry> entry = parseEntry(line);
+            boolean isLastEntry = Arrays.stream(lines, i + 1, lines.length).allMatch(String::isBlank);
+            if (entry.isEmpty()) {
+                if (!isLastEntry) {
+                    throw new IOException(MESSAGE_CORRUPTED_ENTRY + journalFilePath);
+                }
+                logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                hasIncompleteEntry = true;
+                break;
+            }
+            entry.get().applyTo(addressBook);
+            entryCount++;
+            // An entry not followed by a line separator is complete, but another one cannot be appended to it
+            hasIncompleteEntry = i == lines.length - 1;
+        }
+        return entryCount;
+    }
+
+    /**
+     * Returns the entry in {@code line}, or an empty {@code Optional} if {@code line} is cut short or does not
+     * match its checksum.
+     * An entry is its length in bytes, the CRC-32 of its bytes in hexadecimal, and the entry in json, separated by
+     * spaces. Lines of journals written before entries had checksums only hold the entry in json.
+     */
+    private static Optional<JsonJournalEntry> parseEntry(String line) {
+        String json;
+        if (line.startsWith("{")) {
+            json = line;
+        } else {
+            String[] parts = line.split(" ", 3);
+            if (parts.length < 3) {
+                return Optional.empty();
+            }
+            byte[] jsonBytes = parts[2].getBytes(StandardCharsets.UTF_8);
+            try {
+                if (jsonBytes.length != Integer.parseInt(parts[0])
+                        || getChecksum(jsonBytes) != Long.parseLong(parts[1], 16)) {
+                    return Optional.empty();
+                }
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+            json = parts[2];
+        }
+
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json, JsonJournalEntry.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long getChecksum(byte[] bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        return checksum.getValue();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to {@link #getAddressBookFilePath()} compact the journal into a snapshot of {@code addressBook}, and
+     * saves to other locations write a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+        compact(addressBook);
+    }
+
+    /**
+     * Appends each set of {@code changes} to the journal as an entry of its own, without going through the rest of
+     * {@code addressBook}. The sets are not merged, since a change can only be replayed after the changes made
+     * before it, such as a client taking the email that another client gave up.
+     * The journal is compacted into a snapshot of {@code addressBook} instead if it has grown past the threshold, if
+     * any of the {@code changes} replace everything, or if the files do not hold the address book that the changes
+     * were made to.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChanges> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        if (!isJournalCurrent || changes.stream().anyMatch(AddressBookChanges::isReplacingAll)
+                || journalEntryCount >= compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        List<JsonJournalEntry> entries = new ArrayList<>();
+        for (AddressBookChanges change : changes) {
+            if (!change.isEmpty()) {
+                entries.add(new JsonJournalEntry(change));
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            appendToJournal(entries);
+        } catch (IOException e) {
+            // The changes were not saved, so the next save writes a full snapshot instead
+            isJournalCurrent = false;
+            throw e;
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal in order, each on a line of its own preceded by its length and checksum,
+     * and forces them to the disk together.
+     */
+    private void appendToJournal(List<JsonJournalEntry> entries) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalEntry entry : entries) {
+            byte[] json = JsonUtil.toCompactJsonString(entry).getBytes(StandardCharsets.UTF_8);
+            lines.append(json.length).append(' ').append(Long.toHexString(getChecksum(json))).append(' ')
+                    .append(new String(json, StandardCharsets.UTF_8)).append(System.lineSeparator());
+        }
+        try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+        journalEntryCount += entries.size();
+    }
+
+    /**
+     * Replaces the snapshot and journal with a snapshot of {@code addressBook}, keeping them as the previous
+     * generation unless they could not be read and an earlier generation is kept already.
+     * The new snapshot is written next to the old one first, and the journal is only moved away once it is
+     * complete, so that the data can be recovered by {@link #recoverInterruptedCompaction(Path)} at any point.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path tempFilePath = getTempFilePath(filePath);
+
+        // Until the compaction is complete, later changes cannot be appended
+        isJournalCurrent = false;
+        FileUtil.createParentDirsOfFile(filePath);
+        if (!Files.exists(journalFilePath)) {
+            // Marks the old snapshot as the complete one until the new snapshot is
+            Files.createFile(journalFilePath);
+        }
+        // Forced to the disk before the journal is moved away
+        writeSnapshot(addressBook, tempFilePath);
+        Path previousFilePath = FileUtil.getPreviousGenerationPath(filePath);
+        if (Files.exists(filePath) && !(hasDamagedFiles && Files.exists(previousFilePath))) {
+            keepAsPreviousGeneration(previousFilePath);
+        } else {
+            Files.delete(journalFilePath);
+        }
+        FileUtil.moveReplacing(tempFilePath, filePath);
+
+        isJournalCurrent = true;
+        hasDamagedFiles = false;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook}, followed by the checksum line, to {@code snapshotFilePath} and
+     * forces it to the disk.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotFilePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        JsonUtil.writeJson(new CheckedOutputStream(Files.newOutputStream(snapshotFilePath), checksum),
+                new JsonSerializableAddressBook(addressBook), true);
+        byte[] checksumLine = ("\n" + CHECKSUM_LINE_PREFIX + Long.toHexString(checksum.getValue()) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        try (FileChannel snapshot = FileChannel.open(snapshotFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(checksumLine);
+            while (buffer.hasRemaining()) {
+                snapshot.write(buffer);
+            }
+            snapshot.force(true);
+        }
+    }
+
+    /**
+     * Keeps the snapshot and journal at {@code filePath} at {@code previousFilePath} and its journal, replacing the
+     * generation kept there before. Moving the journal away is what completes a compaction.
+     */
+    private void keepAsPreviousGeneration(Path previousFilePath) throws IOException {
+        Path previousJournalFilePath = getJournalFilePath(previousFilePath);
+        Files.deleteIfExists(previousJournalFilePath);
+        Files.deleteIfExists(previousFilePath);
+        try {
+            // The snapshot stays in place until it is replaced, so a crash here loses nothing
+            Files.createLink(previousFilePath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(filePath, previousFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        FileUtil.moveReplacing(getJournalFilePath(filePath), previousJournalFilePath);
+    }
+}
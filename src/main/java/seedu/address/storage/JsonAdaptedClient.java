@@ -23,7 +23,9 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedClient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "A client is missing %s field!";
+    public static final String INVALID_ID_MESSAGE = "A client's id must be a positive number!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -32,11 +34,13 @@ class JsonAdaptedClient {
 
     /**
      * Constructs a {@code JsonAdaptedClient} with the given Client details.
+     * {@code id} is null for clients saved before ids were introduced.
      */
     @JsonCreator
-    public JsonAdaptedClient(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedClient(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -46,10 +50,18 @@ class JsonAdaptedClient {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedClient} without an id with the given Client details.
+     */
+    public JsonAdaptedClient(String name, String phone, String email, String address, List<JsonAdaptedTag> tagged) {
+        this(null, name, phone, email, address, tagged);
+    }
+
     /**
      * Converts a given {@code Client} into this class for Jackson use.
      */
     public JsonAdaptedClient(Client source) {
+        id = source.getId() == Client.UNASSIGNED_ID ? null : source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -65,6 +77,11 @@ class JsonAdaptedClient {
      * @throws IllegalValueException if there were any data constraints violated in the adapted Client.
      */
     public Client toModelType() throws IllegalValueException {
+        if (id != null && id <= Client.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final long modelId = id == null ? Client.UNASSIGNED_ID : id;
+
         final List<Tag> clientTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             clientTags.add(tag.toModelType());
@@ -103,7 +120,7 @@ class JsonAdaptedClient {
         final Address modelAddress = new Address(address);
 
         final Set<Tag> modelTags = new HashSet<>(clientTags);
-        return new Client(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        return new Client(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
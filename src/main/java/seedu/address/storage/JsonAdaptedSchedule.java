@@ -3,12 +3,15 @@ package seedu.address.storage;
 import static seedu.address.model.session.Interval.MESSAGE_END_TIME_CONSTRAINTS;
 import static seedu.address.model.session.Interval.MESSAGE_START_TIME_CONSTRAINTS;
 
+import java.util.Optional;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.parser.schedule.ScheduleParserUtil;
 import seedu.address.logic.parser.session.SessionParserUtil;
+import seedu.address.model.Identifiable;
 import seedu.address.model.client.Email;
 import seedu.address.model.schedule.PaymentStatus;
 import seedu.address.model.schedule.Remark;
@@ -20,7 +23,10 @@ public class JsonAdaptedSchedule {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "A schedule is missing %s!";
     public static final String START_TIME_FIELD = "session start time";
     public static final String END_TIME_FIELD = "session end time";
+    public static final String INVALID_ID_MESSAGE = "A schedule's client and session ids must be positive numbers!";
 
+    private final Long clientId;
+    private final Long sessionId;
     private final String clientEmail;
     private final String start;
     private final String end;
@@ -30,14 +36,20 @@ public class JsonAdaptedSchedule {
 
     /**
      * Constructs a {@code JsonAdaptedSchedule} with the given Schedule details.
+     * {@code clientId} and {@code sessionId} are null for schedules saved before ids were introduced, which are
+     * associated by client email and session interval instead.
      */
     @JsonCreator
-    public JsonAdaptedSchedule(@JsonProperty("clientEmail") String clientEmail,
+    public JsonAdaptedSchedule(@JsonProperty("clientId") Long clientId,
+                               @JsonProperty("sessionId") Long sessionId,
+                               @JsonProperty("clientEmail") String clientEmail,
                                @JsonProperty("sessionStart") String start,
                                @JsonProperty("sessionEnd") String end,
                                @JsonProperty("paymentStatus") String paymentStatus,
                                @JsonProperty("remark") String remark,
                                @JsonProperty("weight") String weight) {
+        this.clientId = clientId;
+        this.sessionId = sessionId;
         this.clientEmail = clientEmail;
         this.start = start;
         this.end = end;
@@ -46,10 +58,20 @@ public class JsonAdaptedSchedule {
         this.weight = weight;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedSchedule} without client and session ids with the given Schedule details.
+     */
+    public JsonAdaptedSchedule(String clientEmail, String start, String end, String paymentStatus, String remark,
+                               String weight) {
+        this(null, null, clientEmail, start, end, paymentStatus, remark, weight);
+    }
+
     /**
      * Converts a given {@code Schedule} into this class for Jackson use.
      */
     public JsonAdaptedSchedule(Schedule source) {
+        clientId = source.getClientId() == Identifiable.UNASSIGNED_ID ? null : source.getClientId();
+        sessionId = source.getSessionId() == Identifiable.UNASSIGNED_ID ? null : source.getSessionId();
         clientEmail = source.getClientEmail().toString();
         start = SessionParserUtil.parseDateTimeToString(source.getStartTime());
         end = SessionParserUtil.parseDateTimeToString(source.getEndTime());
@@ -58,6 +80,31 @@ public class JsonAdaptedSchedule {
         weight = String.valueOf(source.getWeight().getWeight());
     }
 
+    /**
+     * Returns the id of the client of this schedule, or an empty {@code Optional} if it was saved without one.
+     *
+     * @throws IllegalValueException if the id is not positive.
+     */
+    public Optional<Long> getClientId() throws IllegalValueException {
+        return checkId(clientId);
+    }
+
+    /**
+     * Returns the id of the session of this schedule, or an empty {@code Optional} if it was saved without one.
+     *
+     * @throws IllegalValueException if the id is not positive.
+     */
+    public Optional<Long> getSessionId() throws IllegalValueException {
+        return checkId(sessionId);
+    }
+
+    private static Optional<Long> checkId(Long id) throws IllegalValueException {
+        if (id != null && id <= Identifiable.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        return Optional.ofNullable(id);
+    }
+
     /**
      * Converts this Jackson-friendly adapted Schedule object to get its model's {@code Email} object.
      *
@@ -19,7 +19,9 @@ import seedu.address.model.session.Session;
 
 public class JsonAdaptedSession {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "A session is missing %s field!";
+    public static final String INVALID_ID_MESSAGE = "A session's id must be a positive number!";
 
+    private final Long id;
     private final String gym;
     private final String exerciseType;
     private final String start;
@@ -27,22 +29,33 @@ public class JsonAdaptedSession {
 
     /**
      * Constructs a {@code JsonAdaptedSession} with the given Session details.
+     * {@code id} is null for sessions saved before ids were introduced.
      */
     @JsonCreator
-    public JsonAdaptedSession(@JsonProperty("gym") String gym,
+    public JsonAdaptedSession(@JsonProperty("id") Long id,
+                              @JsonProperty("gym") String gym,
                               @JsonProperty("exerciseType") String exerciseType,
                               @JsonProperty("start") String start,
                               @JsonProperty("end") String end) {
+        this.id = id;
         this.gym = gym;
         this.exerciseType = exerciseType;
         this.start = start;
         this.end = end;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedSession} without an id with the given Session details.
+     */
+    public JsonAdaptedSession(String gym, String exerciseType, String start, String end) {
+        this(null, gym, exerciseType, start, end);
+    }
+
     /**
      * Converts a given {@code Session} into this class for Jackson use.
      */
     public JsonAdaptedSession(Session source) {
+        id = source.getId() == Session.UNASSIGNED_ID ? null : source.getId();
         gym = source.getGym().toString();
         exerciseType = source.getExerciseType().toString();
         start = SessionParserUtil.parseDateTimeToString(source.getStartTime());
@@ -57,6 +70,11 @@ public class JsonAdaptedSession {
     public Session toModelType() throws IllegalValueException {
         /* To do the same as Client's toModelType codes, we need to create field-typed classes */
 
+        if (id != null && id <= Session.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final long modelId = id == null ? Session.UNASSIGNED_ID : id;
+
         if (gym == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Gym.class.getSimpleName()));
         }
@@ -93,6 +111,6 @@ public class JsonAdaptedSession {
 
         Interval modelInterval = new Interval(startDateTime, duration);
 
-        return new Session(modelGym, modelExerciseType, modelInterval);
+        return new Session(modelId, modelGym, modelExerciseType, modelInterval);
     }
 }
@@ -22,9 +22,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that indents the json file if {@code isPrettyPrinted}, and writes
+     * it without any whitespace otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     @Override
@@ -46,6 +56,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        return readFallingBackToPrevious(filePath, this::readGeneration);
+    }
+
+    private Optional<ReadOnlyAddressBook> readGeneration(Path filePath) throws DataConversionException {
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (jsonAddressBook.isEmpty()) {
@@ -74,8 +88,42 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+        FileUtil.writeAtomicallyKeepingPrevious(filePath, output ->
+                JsonUtil.writeJson(output, jsonAddressBook, isPrettyPrinted));
+    }
+
+    /**
+     * Reads a data file of one generation.
+     */
+    @FunctionalInterface
+    interface GenerationReader {
+        Optional<ReadOnlyAddressBook> read(Path filePath) throws DataConversionException;
+    }
+
+    /**
+     * Reads the data file at {@code filePath} with {@code reader}, and if it cannot be read, reads the previous
+     * generation of the file kept by {@link FileUtil#writeAtomicallyKeepingPrevious} instead.
+     *
+     * @throws DataConversionException if neither the file nor its previous generation can be read.
+     */
+    static Optional<ReadOnlyAddressBook> readFallingBackToPrevious(Path filePath, GenerationReader reader)
+            throws DataConversionException {
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException e) {
+            Path previousFilePath = FileUtil.getPreviousGenerationPath(filePath);
+            if (!FileUtil.isFileExists(previousFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " cannot be read, falling back to " + previousFilePath);
+            try {
+                return reader.read(previousFilePath);
+            } catch (DataConversionException previousException) {
+                e.addSuppressed(previousException);
+                throw e;
+            }
+        }
     }
 
 }
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.Identifiable;
+import seedu.address.model.client.Client;
+import seedu.address.model.exceptions.DuplicateEntityException;
+import seedu.address.model.exceptions.EntityNotFoundException;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.session.Session;
+
+/**
+ * A Jackson-friendly record of the changes made to an {@code AddressBook} between two saves, as appended to the
+ * journal of a {@link JournaledAddressBookStorage}.
+ * Clients and sessions are referred to by id, so that a record only holds what has changed.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonJournalEntry {
+
+    public static final String MESSAGE_MISSING_ID = "A journal entry can only refer to clients and sessions by id!";
+    public static final String MESSAGE_INCONSISTENT_ENTRY = "A journal entry does not match the data it follows.";
+
+    private final List<JsonAdaptedSchedule> removedSchedules = new ArrayList<>();
+    private final List<Long> removedSessionIds = new ArrayList<>();
+    private final List<Long> removedClientIds = new ArrayList<>();
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
+    private final List<JsonAdaptedSession> sessions = new ArrayList<>();
+    private final List<JsonAdaptedSchedule> schedules = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given changes.
+     * {@code clients}, {@code sessions} and {@code schedules} are added, or replace the ones with the same ids.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("removedSchedules") List<JsonAdaptedSchedule> removedSchedules,
+                            @JsonProperty("removedSessionIds") List<Long> removedSessionIds,
+                            @JsonProperty("removedClientIds") List<Long> removedClientIds,
+                            @JsonProperty("clients") List<JsonAdaptedClient> clients,
+                            @JsonProperty("sessions") List<JsonAdaptedSession> sessions,
+                            @JsonProperty("schedules") List<JsonAdaptedSchedule> schedules) {
+        addAllIfPresent(this.removedSchedules, removedSchedules);
+        addAllIfPresent(this.removedSessionIds, removedSessionIds);
+        addAllIfPresent(this.removedClientIds, removedClientIds);
+        addAllIfPresent(this.clients, clients);
+        addAllIfPresent(this.sessions, sessions);
+        addAllIfPresent(this.schedules, schedules);
+    }
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the clients, sessions and schedules in {@code changes}, which must
+     * not replace everything.
+     */
+    public JsonJournalEntry(AddressBookChanges changes) {
+        assert !changes.isReplacingAll();
+        changes.getRemovedSchedules().forEach(this::removeSchedule);
+        changes.getRemovedSessions().forEach(this::removeSession);
+        changes.getRemovedClients().forEach(this::removeClient);
+        changes.getPutClients().forEach(this::putClient);
+        changes.getPutSessions().forEach(this::putSession);
+        changes.getPutSchedules().forEach(this::putSchedule);
+    }
+
+    private static <T> void addAllIfPresent(List<T> list, List<T> elements) {
+        if (elements != null) {
+            list.addAll(elements);
+        }
+    }
+
+    public void putClient(Client client) {
+        clients.add(new JsonAdaptedClient(client));
+    }
+
+    public void putSession(Session session) {
+        sessions.add(new JsonAdaptedSession(session));
+    }
+
+    public void putSchedule(Schedule schedule) {
+        schedules.add(new JsonAdaptedSchedule(schedule));
+    }
+
+    public void removeClient(Client client) {
+        removedClientIds.add(client.getId());
+    }
+
+    public void removeSession(Session session) {
+        removedSessionIds.add(session.getId());
+    }
+
+    public void removeSchedule(Schedule schedule) {
+        removedSchedules.add(new JsonAdaptedSchedule(schedule));
+    }
+
+    /**
+     * Returns true if this entry records no changes.
+     */
+    public boolean isEmpty() {
+        return removedSchedules.isEmpty() && removedSessionIds.isEmpty() && removedClientIds.isEmpty()
+                && clients.isEmpty() && sessions.isEmpty() && schedules.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code addressBook}.
+     * Removals are applied before additions, and schedules are removed before and added after the clients and
+     * sessions they are associated with.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the changes do not fit
+     *     {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            for (JsonAdaptedSchedule removedSchedule : removedSchedules) {
+                Optional<Schedule> schedule = findSchedule(removedSchedule, addressBook);
+                if (schedule.isPresent()) {
+                    addressBook.removeSchedule(schedule.get());
+                }
+            }
+            for (Long sessionId : removedSessionIds) {
+                addressBook.getSessionById(sessionId).ifPresent(addressBook::removeSession);
+            }
+            for (Long clientId : removedClientIds) {
+                addressBook.getClientById(clientId).ifPresent(addressBook::removeClient);
+            }
+
+            for (JsonAdaptedClient jsonAdaptedClient : clients) {
+                Client client = jsonAdaptedClient.toModelType();
+                Optional<Client> existingClient = addressBook.getClientById(requireId(client));
+                if (existingClient.isPresent()) {
+                    addressBook.setClient(existingClient.get(), client);
+                } else {
+                    addressBook.addClient(client);
+                }
+            }
+            for (JsonAdaptedSession jsonAdaptedSession : sessions) {
+                Session session = jsonAdaptedSession.toModelType();
+                Optional<Session> existingSession = addressBook.getSessionById(requireId(session));
+                if (existingSession.isPresent()) {
+                    addressBook.setSession(existingSession.get(), session);
+                } else {
+                    addressBook.addSession(session);
+                }
+            }
+            JsonScheduleResolver scheduleResolver = new JsonScheduleResolver(addressBook);
+            for (JsonAdaptedSchedule jsonAdaptedSchedule : schedules) {
+                Schedule schedule = scheduleResolver.toModelType(jsonAdaptedSchedule);
+                Optional<Schedule> existingSchedule = findSchedule(jsonAdaptedSchedule, addressBook);
+                if (existingSchedule.isPresent()) {
+                    addressBook.setSchedule(existingSchedule.get(), schedule);
+                } else {
+                    addressBook.addSchedule(schedule);
+                }
+            }
+        } catch (DuplicateEntityException | EntityNotFoundException e) {
+            throw new IllegalValueException(MESSAGE_INCONSISTENT_ENTRY, e);
+        }
+    }
+
+    /**
+     * Returns the schedule in {@code addressBook} between the client and session that {@code jsonAdaptedSchedule}
+     * refers to by id, if there is one.
+     */
+    private static Optional<Schedule> findSchedule(JsonAdaptedSchedule jsonAdaptedSchedule, AddressBook addressBook)
+            throws IllegalValueException {
+        long clientId = jsonAdaptedSchedule.getClientId()
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_MISSING_ID));
+        long sessionId = jsonAdaptedSchedule.getSessionId()
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_MISSING_ID));
+        Optional<Client> client = addressBook.getClientById(clientId);
+        Optional<Session> session = addressBook.getSessionById(sessionId);
+        if (client.isEmpty() || session.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(addressBook.findScheduleByClientAndSession(client.get(), session.get()));
+    }
+
+    private static long requireId(Identifiable<?> element) throws IllegalValueException {
+        if (element.getId() == Identifiable.UNASSIGNED_ID) {
+            throw new IllegalValueException(MESSAGE_MISSING_ID);
+        }
+        return element.getId();
+    }
+}
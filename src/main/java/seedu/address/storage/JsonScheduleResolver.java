@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.schedule.PaymentStatus;
+import seedu.address.model.schedule.Remark;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Weight;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.Session;
+
+/**
+ * Converts {@code JsonAdaptedSchedule}s into the model's {@code Schedule}s, associated with the {@code Client}s
+ * and {@code Session}s of an {@code AddressBook}.
+ * Schedules saved with ids are associated by id. Schedules saved before ids were introduced are associated by
+ * client email and session interval, which are looked up in maps built the first time they are needed, so the
+ * clients and sessions of the address book must not change while this is in use.
+ * Schedules can be converted from several threads at once, as long as the address book is not modified meanwhile.
+ */
+class JsonScheduleResolver {
+
+    public static final String CLIENT_ID_NOT_FOUND = "Cannot find client with id %d that is associated to a schedule.";
+    public static final String SESSION_ID_NOT_FOUND =
+            "Cannot find session with id %d that is associated to a schedule.";
+    public static final String CLIENT_NOT_FOUND = "Cannot find client with email %s that is associated to a schedule.";
+    public static final String SESSION_NOT_FOUND =
+            "Cannot find session with interval %s that is associated to a schedule.";
+
+    private final AddressBook addressBook;
+    private Map<Email, Client> clientsByEmail;
+    private Map<Interval, Session> sessionsByInterval;
+
+    JsonScheduleResolver(AddressBook addressBook) {
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedSchedule} into the model's {@code Schedule} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the client or session of the
+     *     schedule cannot be found.
+     */
+    Schedule toModelType(JsonAdaptedSchedule jsonAdaptedSchedule) throws IllegalValueException {
+        Client client = getClientOfSchedule(jsonAdaptedSchedule);
+        Session session = getSessionOfSchedule(jsonAdaptedSchedule);
+
+        PaymentStatus paymentStatus = jsonAdaptedSchedule.getPaymentStatus();
+        Remark remark = jsonAdaptedSchedule.getRemark();
+        Weight weight = jsonAdaptedSchedule.getWeight();
+
+        return new Schedule(client, session, paymentStatus, remark, weight);
+    }
+
+    /**
+     * Returns the {@code Client} of {@code jsonAdaptedSchedule}, looked up by id if the schedule was saved with one
+     * and by email otherwise.
+     *
+     * @throws IllegalValueException if the client cannot be found.
+     */
+    private Client getClientOfSchedule(JsonAdaptedSchedule jsonAdaptedSchedule) throws IllegalValueException {
+        Email clientEmail = jsonAdaptedSchedule.getClientEmail();
+        Optional<Long> clientId = jsonAdaptedSchedule.getClientId();
+        if (clientId.isPresent()) {
+            return addressBook.getClientById(clientId.get()).orElseThrow(() ->
+                    new IllegalValueException(String.format(CLIENT_ID_NOT_FOUND, clientId.get())));
+        }
+
+        Client client = getClientsByEmail().get(clientEmail);
+        if (client == null) {
+            throw new IllegalValueException(String.format(CLIENT_NOT_FOUND, clientEmail));
+        }
+        return client;
+    }
+
+    /**
+     * Returns the {@code Session} of {@code jsonAdaptedSchedule}, looked up by id if the schedule was saved with one
+     * and by interval otherwise.
+     *
+     * @throws IllegalValueException if the session cannot be found.
+     */
+    private Session getSessionOfSchedule(JsonAdaptedSchedule jsonAdaptedSchedule) throws IllegalValueException {
+        Interval sessionInterval = jsonAdaptedSchedule.getSessionInterval();
+        Optional<Long> sessionId = jsonAdaptedSchedule.getSessionId();
+        if (sessionId.isPresent()) {
+            return addressBook.getSessionById(sessionId.get()).orElseThrow(() ->
+                    new IllegalValueException(String.format(SESSION_ID_NOT_FOUND, sessionId.get())));
+        }
+
+        Session session = getSessionsByInterval().get(sessionInterval);
+        if (session == null) {
+            throw new IllegalValueException(String.format(SESSION_NOT_FOUND, sessionInterval));
+        }
+        return session;
+    }
+
+    private synchronized Map<Email, Client> getClientsByEmail() {
+        if (clientsByEmail == null) {
+            clientsByEmail = new HashMap<>();
+            addressBook.getClientList().forEach(client -> clientsByEmail.put(client.getEmail(), client));
+        }
+        return clientsByEmail;
+    }
+
+    private synchronized Map<Interval, Session> getSessionsByInterval() {
+        if (sessionsByInterval == null) {
+            sessionsByInterval = new HashMap<>();
+            addressBook.getSessionList().forEach(session -> sessionsByInterval.put(session.getInterval(), session));
+        }
+        return sessionsByInterval;
+    }
+}
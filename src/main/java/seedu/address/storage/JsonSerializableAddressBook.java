@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,12 +15,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
-import seedu.address.model.client.Email;
-import seedu.address.model.schedule.PaymentStatus;
-import seedu.address.model.schedule.Remark;
+import seedu.address.model.exceptions.DuplicateEntityException;
 import seedu.address.model.schedule.Schedule;
-import seedu.address.model.schedule.Weight;
-import seedu.address.model.session.Interval;
 import seedu.address.model.session.Session;
 
 /**
@@ -29,9 +28,11 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_CLIENT = "Your data file contains duplicate client(s).";
     public static final String MESSAGE_DUPLICATE_SESSION = "Your data file contains overlapping session(s).";
     public static final String MESSAGE_DUPLICATE_SCHEDULE = "Your data file contains duplicate schedule(s).";
-    public static final String CLIENT_NOT_FOUND = "Cannot find client with email %s that is associated to a schedule.";
-    public static final String SESSION_NOT_FOUND =
-            "Cannot find session with interval %s that is associated to a schedule.";
+    public static final String MESSAGE_DUPLICATE_CLIENT_ID = "Your data file contains clients with the same id.";
+    public static final String MESSAGE_DUPLICATE_SESSION_ID = "Your data file contains sessions with the same id.";
+
+    /** Number of elements of a list from which they are converted in parallel. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 1000;
 
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedSession> sessions = new ArrayList<>();
@@ -62,47 +63,72 @@ class JsonSerializableAddressBook {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns a {@code JsonSerializableAddressBook} with the clients, sessions and schedules of all of {@code parts}.
+     */
+    static JsonSerializableAddressBook merge(List<JsonSerializableAddressBook> parts) {
+        JsonSerializableAddressBook merged = new JsonSerializableAddressBook(List.of(), List.of(), List.of());
+        for (JsonSerializableAddressBook part : parts) {
+            merged.clients.addAll(part.clients);
+            merged.sessions.addAll(part.sessions);
+            merged.schedules.addAll(part.schedules);
+        }
+        return merged;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(List.of());
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, with {@code knownClients} before
+     * the clients of this address book, so that its schedules can be associated with clients saved elsewhere.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType(List<Client> knownClients) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedClient jsonAdaptedClient : this.clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (addressBook.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            addressBook.addClient(client);
-        }
 
-        for (JsonAdaptedSession jsonAdaptedSession : this.sessions) {
-            Session session = jsonAdaptedSession.toModelType();
-            if (addressBook.hasSession(session)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
+        // Clients and sessions are set all at once, so that those saved with an id keep it even if they come after
+        // ones saved without an id.
+        List<Client> modelClients = new ArrayList<>(knownClients);
+        Set<Long> clientIds = knownClients.stream().map(Client::getId).collect(Collectors.toCollection(HashSet::new));
+        for (Conversion<Client> conversion : convertAll(this.clients, JsonAdaptedClient::toModelType)) {
+            Client client = conversion.get();
+            if (client.getId() != Client.UNASSIGNED_ID && !clientIds.add(client.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT_ID);
             }
-            addressBook.addSession(session);
+            modelClients.add(client);
+        }
+        try {
+            addressBook.setClients(modelClients);
+        } catch (DuplicateEntityException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
         }
 
-        for (JsonAdaptedSchedule jsonAdaptedSchedule : this.schedules) {
-            Email clientEmail = jsonAdaptedSchedule.getClientEmail();
-            Client client = getClientWithEmail(clientEmail, addressBook);
-            if (client == null) {
-                throw new IllegalValueException(String.format(CLIENT_NOT_FOUND, clientEmail));
-            }
-
-            Interval sessionInterval = jsonAdaptedSchedule.getSessionInterval();
-            Session session = getSessionWithInterval(sessionInterval, addressBook);
-            if (session == null) {
-                throw new IllegalValueException(String.format(SESSION_NOT_FOUND, sessionInterval));
+        List<Session> modelSessions = new ArrayList<>();
+        Set<Long> sessionIds = new HashSet<>();
+        for (Conversion<Session> conversion : convertAll(this.sessions, JsonAdaptedSession::toModelType)) {
+            Session session = conversion.get();
+            if (session.getId() != Session.UNASSIGNED_ID && !sessionIds.add(session.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION_ID);
             }
+            modelSessions.add(session);
+        }
+        try {
+            addressBook.setSessions(modelSessions);
+        } catch (DuplicateEntityException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
+        }
 
-            PaymentStatus paymentStatus = jsonAdaptedSchedule.getPaymentStatus();
-            Remark remark = jsonAdaptedSchedule.getRemark();
-            Weight weight = jsonAdaptedSchedule.getWeight();
-
-            Schedule schedule = new Schedule(client, session, paymentStatus, remark, weight);
+        JsonScheduleResolver scheduleResolver = new JsonScheduleResolver(addressBook);
+        for (Conversion<Schedule> conversion : convertAll(this.schedules, scheduleResolver::toModelType)) {
+            Schedule schedule = conversion.get();
             if (addressBook.hasSchedule(schedule)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
             }
@@ -113,27 +139,55 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Returns the {@code Client} with the same {@code Email} from {@code addressBook} or null if not found.
+     * Converts each of {@code elements} with {@code converter}, in parallel if there are enough of them for it to
+     * pay off. The conversions are returned in the order of {@code elements}, each holding either the converted
+     * element or the error converting it, so that they can be checked in order with the same results as converting
+     * the elements one by one.
      */
-    private Client getClientWithEmail(Email email, AddressBook addressBook) {
-        for (Client client : addressBook.getClientList()) {
-            if (client.getEmail().equals(email)) {
-                return client;
-            }
-        }
-        return null;
+    private static <J, T> List<Conversion<T>> convertAll(List<J> elements, Converter<J, T> converter) {
+        Stream<J> stream = elements.size() < PARALLEL_CONVERSION_THRESHOLD ? elements.stream()
+                : elements.parallelStream();
+        return stream.map(element -> Conversion.of(element, converter)).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into the model's object.
+     */
+    @FunctionalInterface
+    private interface Converter<J, T> {
+        T convert(J element) throws IllegalValueException;
     }
 
     /**
-     * Returns the {@code Session} with the same {@code id} from {@code addressBook} or null if not found.
+     * The result of converting a Jackson-friendly adapted object: either the model's object, or the error.
      */
-    private Session getSessionWithInterval(Interval interval, AddressBook addressBook) {
-        for (Session session : addressBook.getSessionList()) {
-            if (session.getInterval().equals(interval)) {
-                return session;
+    private static class Conversion<T> {
+        private final T result;
+        private final IllegalValueException error;
+
+        private Conversion(T result, IllegalValueException error) {
+            this.result = result;
+            this.error = error;
+        }
+
+        static <J, T> Conversion<T> of(J element, Converter<J, T> converter) {
+            try {
+                return new Conversion<>(converter.convert(element), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion<>(null, ive);
             }
         }
-        return null;
-    }
 
+        /**
+         * Returns the converted object.
+         *
+         * @throws IllegalValueException if the conversion failed.
+         */
+        T get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A Jackson-friendly list of the shard files of a {@link ShardedAddressBookStorage}.
+ */
+class JsonShardManifest {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private final int formatVersion;
+    private final List<String> shards;
+    private final Long lastSessionId;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given format version, shard names and largest session id.
+     * {@code shards} is null if the file read is not a manifest, and {@code lastSessionId} is null if the manifest
+     * was written before it was recorded.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("formatVersion") int formatVersion,
+                             @JsonProperty("shards") List<String> shards,
+                             @JsonProperty("lastSessionId") Long lastSessionId) {
+        this.formatVersion = formatVersion;
+        this.shards = shards == null ? null : new ArrayList<>(shards);
+        this.lastSessionId = lastSessionId;
+    }
+
+    /**
+     * Constructs a {@code JsonShardManifest} of the current format version, with the given shard names and largest
+     * session id.
+     */
+    public JsonShardManifest(List<String> shards, long lastSessionId) {
+        this(FORMAT_VERSION, shards, lastSessionId);
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the largest id given to a session in any of the shards, if it was recorded.
+     */
+    public Optional<Long> getLastSessionId() {
+        return Optional.ofNullable(lastSessionId);
+    }
+
+    /**
+     * Returns true if the file read is a manifest, rather than some other json file.
+     */
+    public boolean isManifest() {
+        return shards != null;
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -33,10 +34,29 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
     /**
      * Similar to {@link #readUserPrefs()}
      * @param prefsFilePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file format is not as expected.
+     * @throws DataConversionException if the file format is not as expected, or any of the prefs is invalid.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        if (userPrefs.isPresent()) {
+            checkValid(userPrefs.get());
+        }
+        return userPrefs;
+    }
+
+    /**
+     * Checks the prefs that the setters of {@code UserPrefs} validate, since the fields are read from the file
+     * without going through the setters.
+     * @throws DataConversionException if any of the prefs is invalid.
+     */
+    private static void checkValid(UserPrefs userPrefs) throws DataConversionException {
+        if (!UserPrefs.isValidRecentMonthsToLoad(userPrefs.getRecentMonthsToLoad())) {
+            throw new DataConversionException(new IllegalValueException(UserPrefs.MESSAGE_INVALID_RECENT_MONTHS));
+        }
+        if (!UserPrefs.isValidSnapshotGenerations(userPrefs.getSnapshotGenerations())) {
+            throw new DataConversionException(
+                    new IllegalValueException(UserPrefs.MESSAGE_INVALID_SNAPSHOT_GENERATIONS));
+        }
     }
 
     @Override
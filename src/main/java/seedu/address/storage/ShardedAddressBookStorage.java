@@ -0,0 +1,392 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.session.Session;
+
+/**
+ * A class to access AddressBook data stored as several json files on the hard disk: a clients file, and a shard
+ * file for each month with the sessions starting in that month and their schedules. The data file itself is a
+ * manifest listing the shards, which are kept in the directory given by {@link #getShardDirectoryPath(Path)}.
+ * <p>
+ * Saves only rewrite the files whose clients, sessions or schedules have changed since the last save or read, so
+ * that editing a session only rewrites the shard of its month. Data files that are not manifests are read as json
+ * address books, and split into shards on the first save.
+ * <p>
+ * {@link #readRecentAddressBook(LocalDate)} leaves out the shards of earlier months until {@link #readHistory()} is
+ * called, and saves keep those shards as they are until then. The manifest records the largest session id, so that
+ * new sessions are not given the ids of the sessions left out; shards are only left out once it is recorded.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The data file has format version %d, but only "
+            + "versions up to " + JsonShardManifest.FORMAT_VERSION + " can be read.";
+    public static final String MESSAGE_MISSING_SHARD = "The data file lists shard %s, which cannot be found.";
+    public static final String MESSAGE_INVALID_SHARD = "The data file lists shard %s, which is not a month.";
+
+    private static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    private static final String CLIENTS_FILE_NAME = "clients.json";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private SavedData savedData;
+    // Months whose shards were not read, and are kept as they are by saves
+    private final Set<YearMonth> unloadedMonths = new TreeSet<>();
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the directory with the clients and shard files of the manifest at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the shard file of {@code month}, for the manifest at {@code filePath}.
+     */
+    public static Path getShardFilePath(Path filePath, YearMonth month) {
+        return getShardDirectoryPath(filePath).resolve(month + SHARD_FILE_SUFFIX);
+    }
+
+    private static Path getClientsFilePath(Path filePath) {
+        return getShardDirectoryPath(filePath).resolve(CLIENTS_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return read(filePath, YearMonth.of(Year.MIN_VALUE, 1), filePath.equals(this.filePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readSavedAddressBook() throws DataConversionException {
+        return read(filePath, YearMonth.of(Year.MIN_VALUE, 1), false);
+    }
+
+    /**
+     * Reads all the clients, and only the shards from the month of {@code since} on, leaving the earlier shards to
+     * {@link #readHistory()}.
+     *
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readRecentAddressBook(LocalDate since) throws DataConversionException {
+        requireNonNull(since);
+        return read(filePath, YearMonth.from(since), true);
+    }
+
+    /**
+     * Reads the clients file and the shards from {@code firstMonth} on, at {@code filePath}. If {@code isOwnFile},
+     * later saves only rewrite the files that differ from what was read.
+     */
+    private Optional<ReadOnlyAddressBook> read(Path filePath, YearMonth firstMonth, boolean isOwnFile)
+            throws DataConversionException {
+        if (isOwnFile) {
+            unloadedMonths.clear();
+        }
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!manifest.get().isManifest()) {
+            logger.info("Importing json file " + filePath);
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+
+        try {
+            if (manifest.get().getFormatVersion() > JsonShardManifest.FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION,
+                        manifest.get().getFormatVersion()));
+            }
+
+            // Shards can only be left out if the ids of their sessions are known not to be given to new sessions
+            Optional<Long> lastSessionId = manifest.get().getLastSessionId();
+            List<JsonSerializableAddressBook> parts = new ArrayList<>();
+            parts.add(readPart(getClientsFilePath(filePath)));
+            Set<YearMonth> skippedMonths = new TreeSet<>();
+            for (String shard : manifest.get().getShards()) {
+                YearMonth month = parseMonth(shard);
+                if (month.isBefore(firstMonth) && lastSessionId.isPresent()) {
+                    skippedMonths.add(month);
+                } else {
+                    parts.add(readPart(getShardFilePath(filePath, month)));
+                }
+            }
+            AddressBook addressBook = JsonSerializableAddressBook.merge(parts).toModelType();
+            lastSessionId.ifPresent(addressBook::reserveSessionIds);
+
+            if (isOwnFile) {
+                savedData = new SavedData(addressBook);
+                unloadedMonths.addAll(skippedMonths);
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the shards left out by the last {@link #readRecentAddressBook(LocalDate)}, associating their schedules
+     * with the clients read then. Later saves keep these shards up to date again.
+     *
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public ReadOnlyAddressBook readHistory() throws DataConversionException {
+        if (unloadedMonths.isEmpty()) {
+            return new AddressBook();
+        }
+
+        try {
+            List<Client> knownClients = savedData != null
+                    ? savedData.clients
+                    : readPart(getClientsFilePath(filePath)).toModelType().getClientList();
+            List<JsonSerializableAddressBook> parts = new ArrayList<>();
+            for (YearMonth month : unloadedMonths) {
+                parts.add(readPart(getShardFilePath(filePath, month)));
+            }
+            ReadOnlyAddressBook history = JsonSerializableAddressBook.merge(parts).toModelType(knownClients);
+
+            if (savedData != null) {
+                savedData.addSessionsAndSchedules(history);
+            }
+            unloadedMonths.clear();
+            return history;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static JsonSerializableAddressBook readPart(Path partFilePath)
+            throws DataConversionException, IllegalValueException {
+        return JsonUtil.readJsonFile(partFilePath, JsonSerializableAddressBook.class).orElseThrow(() ->
+                new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, partFilePath.getFileName())));
+    }
+
+    private static YearMonth parseMonth(String shard) throws IllegalValueException {
+        try {
+            return YearMonth.parse(shard);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shard), e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to another data file write all the files, as the files there are not known.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        SavedData currentData = new SavedData(addressBook);
+        if (!filePath.equals(this.filePath)) {
+            write(currentData, null, Set.of(), filePath);
+            return;
+        }
+
+        SavedData previousData = savedData;
+        // Until this save completes, the files on disk are not known to match any saved data
+        savedData = null;
+        write(currentData, previousData, unloadedMonths, filePath);
+        savedData = currentData;
+    }
+
+    /**
+     * Writes the files of {@code currentData} that differ from {@code previousData}, or all of them if
+     * {@code previousData} is null. The shards of {@code unloadedMonths} are left as they are.
+     * Shards are written before the manifest that lists them, and removed after it.
+     */
+    private static void write(SavedData currentData, SavedData previousData, Set<YearMonth> unloadedMonths,
+                              Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.createParentDirsOfFile(getClientsFilePath(filePath));
+
+        int writtenShardCount = 0;
+        for (Map.Entry<YearMonth, Shard> entry : currentData.shards.entrySet()) {
+            Shard previousShard = previousData == null ? null : previousData.shards.get(entry.getKey());
+            if (!entry.getValue().isSameAs(previousShard)) {
+                JsonUtil.saveJsonFile(entry.getValue().toJson(), getShardFilePath(filePath, entry.getKey()));
+                writtenShardCount++;
+            }
+        }
+
+        if (previousData == null || !isSameList(currentData.clients, previousData.clients)) {
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(
+                    toJson(currentData.clients, JsonAdaptedClient::new), List.of(), List.of()),
+                    getClientsFilePath(filePath));
+        }
+
+        if (previousData == null || !currentData.shards.keySet().equals(previousData.shards.keySet())
+                || currentData.lastSessionId != previousData.lastSessionId) {
+            Set<YearMonth> months = new TreeSet<>(unloadedMonths);
+            months.addAll(currentData.shards.keySet());
+            List<String> shardNames = months.stream().map(YearMonth::toString).collect(Collectors.toList());
+            JsonUtil.saveJsonFile(new JsonShardManifest(shardNames, currentData.lastSessionId), filePath);
+        }
+
+        if (previousData != null) {
+            for (YearMonth month : previousData.shards.keySet()) {
+                if (!currentData.shards.containsKey(month) && !unloadedMonths.contains(month)) {
+                    Files.deleteIfExists(getShardFilePath(filePath, month));
+                }
+            }
+        }
+        logger.fine("Rewrote " + writtenShardCount + " of " + currentData.shards.size() + " shards");
+    }
+
+    private static <T, J> List<J> toJson(List<T> elements, Function<T, J> adapter) {
+        return elements.stream().map(adapter).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code current} holds the very same elements as {@code previous}, in the same order.
+     * The model's clients, sessions and schedules are immutable, so an element that is edited is replaced.
+     */
+    private static <T> boolean isSameList(List<T> current, List<T> previous) {
+        return isSameList(current, previous, (currentElement, previousElement) -> false);
+    }
+
+    /**
+     * Returns true if every element of {@code current} is either the very same element as the one in
+     * {@code previous} at the same position, or {@code isSaved} the same as it.
+     */
+    private static <T> boolean isSameList(List<T> current, List<T> previous, BiPredicate<T, T> isSaved) {
+        if (previous == null || current.size() != previous.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) != previous.get(i) && !isSaved.test(current.get(i), previous.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if both schedules are saved the same way.
+     * Editing a client or session replaces its schedules even if only fields that schedules do not save changed,
+     * so schedules are compared by what is saved to keep such edits from rewriting every shard of the client.
+     */
+    private static boolean isSameSavedSchedule(Schedule current, Schedule previous) {
+        return current.getClientId() == previous.getClientId()
+                && current.getSessionId() == previous.getSessionId()
+                && current.getClientEmail().equals(previous.getClientEmail())
+                && current.getStartTime().equals(previous.getStartTime())
+                && current.getEndTime().equals(previous.getEndTime())
+                && current.getPaymentStatus().equals(previous.getPaymentStatus())
+                && current.getRemark().equals(previous.getRemark())
+                && current.getWeight().equals(previous.getWeight());
+    }
+
+    /**
+     * The clients, and the sessions and schedules of each month, of an address book as it was saved or read.
+     */
+    private static class SavedData {
+        private final List<Client> clients;
+        private final Map<YearMonth, Shard> shards = new TreeMap<>();
+        private final long lastSessionId;
+
+        SavedData(ReadOnlyAddressBook addressBook) {
+            clients = new ArrayList<>(addressBook.getClientList());
+            lastSessionId = addressBook.getLastSessionId();
+            addSessionsAndSchedules(addressBook);
+        }
+
+        /**
+         * Adds the sessions and schedules of {@code addressBook}, but not its clients.
+         */
+        void addSessionsAndSchedules(ReadOnlyAddressBook addressBook) {
+            for (Session session : addressBook.getSessionList()) {
+                getShard(session.getStartTime().getYear(), session.getStartTime().getMonthValue())
+                        .sessions.add(session);
+            }
+            for (Schedule schedule : addressBook.getScheduleList()) {
+                getShard(schedule.getStartTime().getYear(), schedule.getStartTime().getMonthValue())
+                        .schedules.add(schedule);
+            }
+        }
+
+        private Shard getShard(int year, int month) {
+            return shards.computeIfAbsent(YearMonth.of(year, month), unused -> new Shard());
+        }
+    }
+
+    /**
+     * The sessions starting in a month, and their schedules.
+     */
+    private static class Shard {
+        private final List<Session> sessions = new ArrayList<>();
+        private final List<Schedule> schedules = new ArrayList<>();
+
+        boolean isSameAs(Shard other) {
+            return other != null && isSameList(sessions, other.sessions)
+                    && isSameList(schedules, other.schedules, ShardedAddressBookStorage::isSameSavedSchedule);
+        }
+
+        JsonSerializableAddressBook toJson() {
+            return new JsonSerializableAddressBook(List.of(), ShardedAddressBookStorage.toJson(sessions,
+                    JsonAdaptedSession::new), ShardedAddressBookStorage.toJson(schedules, JsonAdaptedSchedule::new));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Keeps gzip compressed json snapshots of the address book in a directory, taken on a background thread, and keeps
+ * only the latest generations of them. A snapshot is restored by reading it with {@link #readSnapshot(Path)} and
+ * saving it as the address book.
+ */
+public class SnapshotService implements Closeable {
+
+    public static final String MESSAGE_INVALID_GENERATION_COUNT = "The number of snapshots to keep must be "
+            + "positive.";
+
+    private static final String SNAPSHOT_DIRECTORY_NAME = "snapshots";
+    private static final String SNAPSHOT_FILE_PREFIX = "addressbook-";
+    private static final String SNAPSHOT_FILE_SUFFIX = ".json.gz";
+    // Snapshot file names sort in the order the snapshots were taken
+    private static final DateTimeFormatter SNAPSHOT_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd-HHmmssSSS");
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotService.class);
+
+    private final Path directory;
+    private final int generationCount;
+    private final Clock clock;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SnapshotService");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SnapshotService(Path directory, int generationCount) {
+        this(directory, generationCount, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code SnapshotService} that keeps the latest {@code generationCount} snapshots in
+     * {@code directory}, and names them after the time given by {@code clock}.
+     */
+    SnapshotService(Path directory, int generationCount, Clock clock) {
+        requireNonNull(directory);
+        requireNonNull(clock);
+        checkArgument(generationCount > 0, MESSAGE_INVALID_GENERATION_COUNT);
+        this.directory = directory;
+        this.generationCount = generationCount;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the directory that keeps the snapshots of the data file at {@code dataFilePath}.
+     */
+    public static Path getSnapshotDirectoryPath(Path dataFilePath) {
+        return dataFilePath.toAbsolutePath().resolveSibling(SNAPSHOT_DIRECTORY_NAME);
+    }
+
+    /**
+     * Takes a snapshot of the address book saved in {@code storage} every {@code interval}, starting once
+     * {@code interval} has passed since the latest snapshot.
+     * The address book is read, with all of its past sessions, on the thread of {@code storage} that saves it, and
+     * compressed and written on the background thread, so that the application is not held up by snapshots.
+     */
+    public void start(Duration interval, Storage storage) {
+        requireNonNull(interval);
+        requireNonNull(storage);
+
+        long initialDelayMillis = 0;
+        List<Path> snapshotPaths = getSnapshotPaths();
+        if (!snapshotPaths.isEmpty()) {
+            try {
+                Instant latestSnapshotTime = Files.getLastModifiedTime(snapshotPaths.get(0)).toInstant();
+                initialDelayMillis = Math.max(0,
+                        Duration.between(clock.instant(), latestSnapshotTime.plus(interval)).toMillis());
+            } catch (IOException e) {
+                logger.fine("Unable to tell when the latest snapshot was taken, taking one now");
+            }
+        }
+
+        executor.scheduleAtFixedRate(() -> storage.readSavedAddressBookInBackground(this::saveSnapshotInBackground),
+                initialDelayMillis, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} as it is now, and compresses and writes it on the background thread.
+     * Only the lists of clients, sessions and schedules are copied on the calling thread.
+     * Failures are logged, and the next snapshot is taken as scheduled.
+     */
+    public void saveSnapshotInBackground(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        executor.execute(() -> {
+            try {
+                saveSnapshot(snapshot);
+            } catch (IOException ioe) {
+                logger.warning("Failed to take a snapshot of the address book " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook}, then deletes the snapshots older than the generations to keep.
+     *
+     * @return the path of the snapshot.
+     * @throws IOException if there was any problem writing or deleting the files.
+     */
+    public Path saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE_PREFIX
+                + LocalDateTime.now(clock).format(SNAPSHOT_TIME_FORMATTER) + SNAPSHOT_FILE_SUFFIX);
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+        // The json is compressed as it is serialized, without building the whole document in memory first
+        FileUtil.writeAtomically(snapshotPath, output ->
+                JsonUtil.writeJson(new GZIPOutputStream(output), jsonAddressBook, false));
+        logger.info("Took a snapshot of the address book at " + snapshotPath);
+
+        List<Path> snapshotPaths = getSnapshotPaths();
+        for (Path oldSnapshotPath : snapshotPaths.subList(Math.min(generationCount, snapshotPaths.size()),
+                snapshotPaths.size())) {
+            Files.deleteIfExists(oldSnapshotPath);
+        }
+        return snapshotPath;
+    }
+
+    /**
+     * Returns the paths of the snapshots, from the latest to the earliest.
+     */
+    public List<Path> getSnapshotPaths() {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith(SNAPSHOT_FILE_PREFIX)
+                    && path.getFileName().toString().endsWith(SNAPSHOT_FILE_SUFFIX))
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warning("Unable to list the snapshots in " + directory + ": " + e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the address book kept in the snapshot at {@code snapshotPath}.
+     *
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     * @throws IOException if the snapshot cannot be read.
+     */
+    public static ReadOnlyAddressBook readSnapshot(Path snapshotPath) throws DataConversionException, IOException {
+        requireNonNull(snapshotPath);
+
+        JsonSerializableAddressBook jsonAddressBook;
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(snapshotPath))) {
+            jsonAddressBook = JsonUtil.readJson(input, JsonSerializableAddressBook.class);
+        } catch (IOException e) {
+            if (Files.exists(snapshotPath)) {
+                throw new DataConversionException(e);
+            }
+            throw e;
+        }
+
+        try {
+            return jsonAddressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + snapshotPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Waits for the snapshots started so far to be written.
+     */
+    void flush() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Flushing does not run anything that can fail.", e);
+        }
+    }
+
+    /**
+     * Stops taking snapshots. A snapshot that is being written is completed.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,567 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.exceptions.DuplicateEntityException;
+import seedu.address.model.exceptions.EntityNotFoundException;
+import seedu.address.model.schedule.PaymentStatus;
+import seedu.address.model.schedule.Remark;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Weight;
+import seedu.address.model.session.ExerciseType;
+import seedu.address.model.session.Gym;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.Session;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an embedded SQLite database on the hard disk.
+ * <p>
+ * Clients, sessions and schedules each have a table. Clients are indexed by email, sessions by start time, and
+ * schedules by their client and session ids, so that sessions can be read a period at a time.
+ * <p>
+ * Saves of the changes made to the address book write only the rows of the clients, sessions and schedules that
+ * the changes put or removed, all in one transaction. Start times are stored as ISO-8601 text, which sorts in time
+ * order.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    public static final int SCHEMA_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The database has schema version %d, but only "
+            + "versions up to " + SCHEMA_VERSION + " can be read.";
+    public static final String MESSAGE_INVALID_VALUE = "The database contains an invalid value.";
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS clients (id INTEGER PRIMARY KEY, name TEXT NOT NULL, phone TEXT NOT NULL, "
+                + "email TEXT NOT NULL, address TEXT NOT NULL, tags TEXT NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS clients_email ON clients (email)",
+        "CREATE TABLE IF NOT EXISTS sessions (id INTEGER PRIMARY KEY, gym TEXT NOT NULL, "
+                + "exercise_type TEXT NOT NULL, start_time TEXT NOT NULL, duration INTEGER NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS sessions_start_time ON sessions (start_time)",
+        "CREATE TABLE IF NOT EXISTS schedules ("
+                + "client_id INTEGER NOT NULL REFERENCES clients (id), "
+                + "session_id INTEGER NOT NULL REFERENCES sessions (id), "
+                + "payment_status TEXT NOT NULL, remark TEXT NOT NULL, weight REAL NOT NULL, "
+                + "PRIMARY KEY (client_id, session_id))",
+        "CREATE INDEX IF NOT EXISTS schedules_session_id ON schedules (session_id)",
+        "PRAGMA user_version = " + SCHEMA_VERSION
+    };
+
+    private static final String SELECT_CLIENTS = "SELECT id, name, phone, email, address, tags FROM clients "
+            + "ORDER BY id";
+    private static final String SELECT_SESSIONS = "SELECT id, gym, exercise_type, start_time, duration FROM sessions "
+            + "WHERE start_time >= ? AND start_time < ? ORDER BY start_time";
+    private static final String SELECT_LAST_SESSION_ID = "SELECT COALESCE(MAX(id), 0) FROM sessions";
+    private static final String SELECT_CLIENT_IDS = "SELECT id FROM clients";
+    private static final String SELECT_SCHEDULES = "SELECT schedules.client_id, schedules.session_id, "
+            + "schedules.payment_status, schedules.remark, schedules.weight FROM schedules "
+            + "JOIN sessions ON sessions.id = schedules.session_id "
+            + "WHERE sessions.start_time >= ? AND sessions.start_time < ? ORDER BY schedules.rowid";
+
+    // Puts insert rows, or update the rows with the same key
+    private static final String PUT_CLIENT = "INSERT INTO clients (name, phone, email, address, tags, id) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET name = excluded.name, "
+            + "phone = excluded.phone, email = excluded.email, address = excluded.address, tags = excluded.tags";
+    private static final String DELETE_CLIENT = "DELETE FROM clients WHERE id = ?";
+    private static final String PUT_SESSION = "INSERT INTO sessions (gym, exercise_type, start_time, duration, id) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET gym = excluded.gym, "
+            + "exercise_type = excluded.exercise_type, start_time = excluded.start_time, duration = excluded.duration";
+    private static final String DELETE_SESSION = "DELETE FROM sessions WHERE id = ?";
+    private static final String DELETE_SESSIONS_FROM = "DELETE FROM sessions WHERE start_time >= ?";
+    private static final String PUT_SCHEDULE = "INSERT INTO schedules "
+            + "(payment_status, remark, weight, client_id, session_id) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (client_id, session_id) DO UPDATE SET payment_status = excluded.payment_status, "
+            + "remark = excluded.remark, weight = excluded.weight";
+    private static final String DELETE_SCHEDULE = "DELETE FROM schedules WHERE client_id = ? AND session_id = ?";
+    private static final String DELETE_SCHEDULES_OF_CLIENT = "DELETE FROM schedules WHERE client_id = ?";
+    private static final String DELETE_SCHEDULES_FROM = "DELETE FROM schedules WHERE session_id IN "
+            + "(SELECT id FROM sessions WHERE start_time >= ?)";
+
+    // Bounds of start times that include every session, as start times are compared as text
+    private static final String EARLIEST = "";
+    private static final String LATEST = "~";
+
+    private static final String TAG_SEPARATOR = " ";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // Whether the database holds the address book as it was last read or saved, which later changes are made to
+    private boolean isDatabaseCurrent;
+    // The first day of the sessions that have been read, if earlier sessions were left out
+    private LocalDate firstLoadedDay;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        isDatabaseCurrent = false;
+        Optional<ReadOnlyAddressBook> addressBook = read(filePath, EARLIEST);
+        isDatabaseCurrent = addressBook.isPresent();
+        firstLoadedDay = null;
+        return addressBook;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database cannot be read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            return readAddressBook();
+        }
+        return read(filePath, EARLIEST);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readSavedAddressBook() throws DataConversionException {
+        return read(filePath, EARLIEST);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the sessions that start on or after {@code since} are read from the database, along with their schedules.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readRecentAddressBook(LocalDate since) throws DataConversionException {
+        requireNonNull(since);
+
+        isDatabaseCurrent = false;
+        Optional<ReadOnlyAddressBook> addressBook = read(filePath, since.toString());
+        isDatabaseCurrent = addressBook.isPresent();
+        firstLoadedDay = addressBook.isPresent() ? since : null;
+        return addressBook;
+    }
+
+    @Override
+    public ReadOnlyAddressBook readHistory() throws DataConversionException {
+        if (firstLoadedDay == null) {
+            return new AddressBook();
+        }
+
+        AddressBook history;
+        try (Connection connection = connect(filePath)) {
+            history = readAddressBook(connection, EARLIEST, firstLoadedDay.toString());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        firstLoadedDay = null;
+        return history;
+    }
+
+    private Optional<ReadOnlyAddressBook> read(Path filePath, String firstStartTime) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Database " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (Connection connection = connect(filePath)) {
+            return Optional.of(readAddressBook(connection, firstStartTime, LATEST));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Every row is written. Sessions that were left out of the address book by
+     * {@link #readRecentAddressBook(LocalDate)} are kept, along with their schedules, if {@code filePath} is the
+     * database they were left out of.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnDatabase = filePath.equals(this.filePath);
+        String firstWrittenStartTime = isOwnDatabase && firstLoadedDay != null ? firstLoadedDay.toString() : EARLIEST;
+        if (isOwnDatabase) {
+            // Until this save completes, the database is not known to hold any address book
+            isDatabaseCurrent = false;
+        }
+        write(filePath, connection -> writeAll(connection, addressBook, firstWrittenStartTime));
+        if (isOwnDatabase) {
+            isDatabaseCurrent = true;
+        }
+    }
+
+    /**
+     * Writes the rows that each set of {@code changes} puts or removes, in the order of the list, without going
+     * through the rest of {@code addressBook}. Every row is written instead if any of the {@code changes} replace
+     * everything, or if the database does not hold the address book that the changes were made to.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChanges> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        if (!isDatabaseCurrent || changes.stream().anyMatch(AddressBookChanges::isReplacingAll)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        if (changes.stream().allMatch(AddressBookChanges::isEmpty)) {
+            return;
+        }
+        // The changes were not saved if this fails, so the next save writes every row instead
+        isDatabaseCurrent = false;
+        write(filePath, connection -> {
+            for (AddressBookChanges change : changes) {
+                writeChanges(connection, change);
+            }
+        });
+        isDatabaseCurrent = true;
+    }
+
+    /**
+     * Writes rows to a database.
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Writes to the database at {@code filePath} with {@code writer} in one transaction, which is rolled back if
+     * the writer fails.
+     */
+    private static void write(Path filePath, RowWriter writer) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Connection connection = connect(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                writer.write(connection);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException | IllegalValueException e) {
+            throw new IOException("Error writing to database " + filePath, e);
+        }
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath}, creating the tables if they do not exist yet.
+     */
+    private static Connection connect(Path filePath) throws SQLException, IllegalValueException {
+        Connection connection = DriverManager.getConnection("jdbc:sqlite:" + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA foreign_keys = ON");
+            int version;
+            try (ResultSet resultSet = statement.executeQuery("PRAGMA user_version")) {
+                version = resultSet.next() ? resultSet.getInt(1) : 0;
+            }
+            if (version > SCHEMA_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            if (version < SCHEMA_VERSION) {
+                for (String sql : CREATE_SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+        } catch (SQLException | IllegalValueException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    //// writing
+
+    /**
+     * Writes every row of {@code addressBook}, replacing the rows of sessions starting from
+     * {@code firstWrittenStartTime} and their schedules. Earlier sessions and their schedules are kept, unless they
+     * belong to clients that are not in {@code addressBook}.
+     */
+    private static void writeAll(Connection connection, ReadOnlyAddressBook addressBook,
+                                 String firstWrittenStartTime) throws SQLException {
+        deleteFrom(connection, DELETE_SCHEDULES_FROM, firstWrittenStartTime);
+        deleteFrom(connection, DELETE_SESSIONS_FROM, firstWrittenStartTime);
+
+        Set<Long> clientIds = addressBook.getClientList().stream().map(Client::getId).collect(Collectors.toSet());
+        List<Long> removedClientIds = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SELECT_CLIENT_IDS)) {
+            while (resultSet.next()) {
+                if (!clientIds.contains(resultSet.getLong(1))) {
+                    removedClientIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        deleteById(connection, DELETE_SCHEDULES_OF_CLIENT, removedClientIds);
+        deleteById(connection, DELETE_CLIENT, removedClientIds);
+
+        writeClients(connection, PUT_CLIENT, addressBook.getClientList());
+        writeSessions(connection, PUT_SESSION, addressBook.getSessionList());
+        writeSchedules(connection, PUT_SCHEDULE, addressBook.getScheduleList());
+    }
+
+    /**
+     * Writes the rows that {@code changes} put or remove. Rows are deleted before the rows that refer to them, and
+     * put after the rows that they refer to.
+     */
+    private static void writeChanges(Connection connection, AddressBookChanges changes) throws SQLException {
+        deleteSchedules(connection, changes.getRemovedSchedules());
+        List<Long> removedClientIds = changes.getRemovedClients().stream()
+                .map(Client::getId).collect(Collectors.toList());
+        // Schedules of sessions that were left out of the address book may still refer to the removed clients
+        deleteById(connection, DELETE_SCHEDULES_OF_CLIENT, removedClientIds);
+        deleteById(connection, DELETE_CLIENT, removedClientIds);
+        deleteById(connection, DELETE_SESSION, changes.getRemovedSessions().stream()
+                .map(Session::getId).collect(Collectors.toList()));
+        writeClients(connection, PUT_CLIENT, changes.getPutClients());
+        writeSessions(connection, PUT_SESSION, changes.getPutSessions());
+        writeSchedules(connection, PUT_SCHEDULE, changes.getPutSchedules());
+    }
+
+    /**
+     * Runs {@code sql}, which takes the fields of a client followed by its id, for each of {@code clients}.
+     */
+    private static void writeClients(Connection connection, String sql, Collection<Client> clients)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Client client : clients) {
+                statement.setString(1, client.getName().fullName);
+                statement.setString(2, client.getPhone().value);
+                statement.setString(3, client.getEmail().value);
+                statement.setString(4, client.getAddress().value);
+                statement.setString(5, client.getTags().stream().map(tag -> tag.tagName)
+                        .collect(Collectors.joining(TAG_SEPARATOR)));
+                statement.setLong(6, client.getId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Runs {@code sql}, which takes the fields of a session followed by its id, for each of {@code sessions}.
+     */
+    private static void writeSessions(Connection connection, String sql, Collection<Session> sessions)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Session session : sessions) {
+                statement.setString(1, session.getGym().toString());
+                statement.setString(2, session.getExerciseType().toString());
+                statement.setString(3, session.getStartTime().toString());
+                statement.setInt(4, session.getInterval().getDurationInMinutes());
+                statement.setLong(5, session.getId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Runs {@code sql}, which takes the fields of a schedule followed by its client and session ids, for each of
+     * {@code schedules}.
+     */
+    private static void writeSchedules(Connection connection, String sql, Collection<Schedule> schedules)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Schedule schedule : schedules) {
+                statement.setString(1, schedule.getPaymentStatus().getValue());
+                statement.setString(2, schedule.getRemark().value);
+                statement.setDouble(3, schedule.getWeight().getWeight());
+                statement.setLong(4, schedule.getClientId());
+                statement.setLong(5, schedule.getSessionId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void deleteSchedules(Connection connection, Collection<Schedule> schedules) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_SCHEDULE)) {
+            for (Schedule schedule : schedules) {
+                statement.setLong(1, schedule.getClientId());
+                statement.setLong(2, schedule.getSessionId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void deleteFrom(Connection connection, String sql, String firstStartTime) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, firstStartTime);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void deleteById(Connection connection, String sql, List<Long> ids) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id : ids) {
+                statement.setLong(1, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    //// reading
+
+    /**
+     * Reads every client, and the sessions starting from {@code firstStartTime} and before {@code endStartTime}
+     * along with their schedules.
+     */
+    private static AddressBook readAddressBook(Connection connection, String firstStartTime, String endStartTime)
+            throws SQLException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            // Ids are unique as they are the primary keys
+            List<Client> clients = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(SELECT_CLIENTS)) {
+                while (resultSet.next()) {
+                    clients.add(toClient(resultSet));
+                }
+            }
+            try {
+                addressBook.setClients(clients);
+            } catch (DuplicateEntityException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+            }
+
+            List<Session> sessions = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_SESSIONS)) {
+                statement.setString(1, firstStartTime);
+                statement.setString(2, endStartTime);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        sessions.add(toSession(resultSet));
+                    }
+                }
+            }
+            try {
+                addressBook.setSessions(sessions);
+            } catch (DuplicateEntityException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_SESSION);
+            }
+            // Sessions that were left out keep their ids
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(SELECT_LAST_SESSION_ID)) {
+                resultSet.next();
+                addressBook.reserveSessionIds(resultSet.getLong(1));
+            }
+
+            List<Schedule> schedules = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_SCHEDULES)) {
+                statement.setString(1, firstStartTime);
+                statement.setString(2, endStartTime);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        schedules.add(toSchedule(resultSet, addressBook));
+                    }
+                }
+            }
+            addressBook.setSchedules(schedules);
+        } catch (IllegalArgumentException | EntityNotFoundException | DateTimeParseException e) {
+            // Invalid values are rejected by the constructors of the model's value objects
+            throw new IllegalValueException(e.getMessage() == null ? MESSAGE_INVALID_VALUE : e.getMessage(), e);
+        }
+        return addressBook;
+    }
+
+    private static Client toClient(ResultSet resultSet) throws SQLException {
+        long id = resultSet.getLong(1);
+        Name name = new Name(resultSet.getString(2));
+        Phone phone = new Phone(resultSet.getString(3));
+        Email email = new Email(resultSet.getString(4));
+        Address address = new Address(resultSet.getString(5));
+        String tagNames = resultSet.getString(6);
+        Set<Tag> tags = new HashSet<>();
+        if (!tagNames.isEmpty()) {
+            Arrays.stream(tagNames.split(TAG_SEPARATOR)).map(Tag::new).forEach(tags::add);
+        }
+        return new Client(id, name, phone, email, address, tags);
+    }
+
+    private static Session toSession(ResultSet resultSet) throws SQLException {
+        long id = resultSet.getLong(1);
+        Gym gym = new Gym(resultSet.getString(2));
+        ExerciseType exerciseType = new ExerciseType(resultSet.getString(3));
+        LocalDateTime start = LocalDateTime.parse(resultSet.getString(4));
+        Interval interval = new Interval(start, resultSet.getInt(5));
+        return new Session(id, gym, exerciseType, interval);
+    }
+
+    private static Schedule toSchedule(ResultSet resultSet, AddressBook addressBook)
+            throws SQLException, IllegalValueException {
+        long clientId = resultSet.getLong(1);
+        long sessionId = resultSet.getLong(2);
+        Client client = addressBook.getClientById(clientId).orElseThrow(() -> new IllegalValueException(
+                String.format(JsonScheduleResolver.CLIENT_ID_NOT_FOUND, clientId)));
+        Session session = addressBook.getSessionById(sessionId).orElseThrow(() -> new IllegalValueException(
+                String.format(JsonScheduleResolver.SESSION_ID_NOT_FOUND, sessionId)));
+        PaymentStatus paymentStatus = new PaymentStatus(resultSet.getString(3));
+        Remark remark = new Remark(resultSet.getString(4));
+        double weight = resultSet.getDouble(5);
+        Weight modelWeight = weight == 0 ? Weight.getDefaultWeight() : new Weight(weight);
+        return new Schedule(client, session, paymentStatus, remark, modelWeight);
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -31,4 +33,46 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
 
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Saves {@code addressBook} as it is now on a background thread, without waiting for it to be written.
+     * {@code changes} are the changes made to it since the previous call, which are all that storages that save
+     * changes write.
+     * Successive calls made while a save is waiting to start are combined into one save of the latest address book.
+     * Failures are passed to the handler set with {@link #setSaveFailureHandler(Consumer)}.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, AddressBookChanges changes);
+
+    /**
+     * Sets the handler that is called, on the background thread, when a save started by
+     * {@link #saveAddressBookInBackground(ReadOnlyAddressBook, AddressBookChanges)} fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Reads all of the saved address book on the background thread that saves the address book, once the saves
+     * started so far are written, and passes it to {@code handler} on that thread.
+     * Failures to read it are logged, and {@code handler} is not called.
+     */
+    void readSavedAddressBookInBackground(Consumer<ReadOnlyAddressBook> handler);
+
+    /**
+     * Starts watching the data file for changes made by other programs, such as file syncing tools.
+     * A changed data file is read on the background thread that saves the address book, and passed to
+     * {@code changeHandler} on that thread. The saves of this storage are not reported as changes.
+     *
+     * @throws IOException if the data file cannot be watched.
+     */
+    void watchAddressBookFile(Consumer<ReadOnlyAddressBook> changeHandler) throws IOException;
+
+    /**
+     * Stops watching the data file, if it is being watched.
+     */
+    void stopWatchingAddressBookFile();
+
+    /**
+     * Waits for the saves started by {@link #saveAddressBookInBackground(ReadOnlyAddressBook, AddressBookChanges)}
+     * to complete.
+     */
+    void flush();
 }
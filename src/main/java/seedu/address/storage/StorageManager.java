@@ -1,12 +1,22 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,6 +29,12 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookSaver addressBookSaver;
+    private DataFileWatcher dataFileWatcher;
+
+    // The modification times and sizes of the data files when they were last saved or read, which tell changes made
+    // by other programs apart from the saves of this storage
+    private volatile List<Object> knownDataFileState = List.of();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -27,6 +43,7 @@ public class StorageManager implements Storage {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookSaver = new AddressBookSaver(addressBookStorage, this::recordDataFileState);
     }
 
     // ================ UserPrefs methods ==============================
@@ -62,9 +79,25 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        addressBookSaver.flush();
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readRecentAddressBook(LocalDate since)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read recent data from file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookSaver.flush();
+        return addressBookStorage.readRecentAddressBook(since);
+    }
+
+    @Override
+    public ReadOnlyAddressBook readHistory() throws DataConversionException, IOException {
+        logger.fine("Attempting to read past data from file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookSaver.flush();
+        return addressBookStorage.readHistory();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -73,6 +106,100 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        // Saves in the background come first, so that they do not overwrite this save
+        addressBookSaver.flush();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            recordDataFileState();
+        }
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        logger.fine("Scheduling a write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookSaver.save(addressBook, changes);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        addressBookSaver.setSaveFailureHandler(saveFailureHandler);
+    }
+
+    @Override
+    public void readSavedAddressBookInBackground(Consumer<ReadOnlyAddressBook> handler) {
+        requireNonNull(handler);
+        addressBookSaver.execute(() -> {
+            try {
+                addressBookStorage.readSavedAddressBook().ifPresent(handler);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Unable to read the saved data file " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    @Override
+    public void watchAddressBookFile(Consumer<ReadOnlyAddressBook> changeHandler) throws IOException {
+        requireNonNull(changeHandler);
+        stopWatchingAddressBookFile();
+
+        addressBookSaver.execute(this::recordDataFileState);
+        // Storages that save changes to a separate file, such as a journal, are watched for changes to either file
+        dataFileWatcher = DataFileWatcher.start(addressBookStorage.getDataFilePaths(), () ->
+                addressBookSaver.execute(() -> readChangedAddressBook(changeHandler)));
+    }
+
+    @Override
+    public void stopWatchingAddressBookFile() {
+        if (dataFileWatcher == null) {
+            return;
+        }
+        try {
+            dataFileWatcher.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
+        }
+        dataFileWatcher = null;
+    }
+
+    /**
+     * Reads the data file and passes it to {@code changeHandler}, unless the data files are the ones that were last
+     * saved or read.
+     */
+    private void readChangedAddressBook(Consumer<ReadOnlyAddressBook> changeHandler) {
+        List<Object> dataFileState = getDataFileState();
+        if (dataFileState.equals(knownDataFileState)) {
+            return;
+        }
+        knownDataFileState = dataFileState;
+
+        logger.info("Data file changed by another program, reading it again");
+        try {
+            addressBookStorage.readAddressBook().ifPresent(changeHandler);
+        } catch (DataConversionException | IOException e) {
+            // The file may still be being written, in which case it is read again once it is complete
+            logger.warning("Unable to read the changed data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void recordDataFileState() {
+        knownDataFileState = getDataFileState();
+    }
+
+    private List<Object> getDataFileState() {
+        List<Object> dataFileState = new ArrayList<>();
+        for (Path dataFilePath : addressBookStorage.getDataFilePaths()) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(dataFilePath, BasicFileAttributes.class);
+                dataFileState.add(List.of(attributes.lastModifiedTime(), attributes.size()));
+            } catch (IOException e) {
+                dataFileState.add(List.of());
+            }
+        }
+        return dataFileState;
+    }
+
+    @Override
+    public void flush() {
+        addressBookSaver.flush();
     }
 }
@@ -1,11 +1,8 @@
 package seedu.address.ui;
 
-import static java.time.temporal.ChronoUnit.DAYS;
-
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,10 +14,6 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.schedule.Schedule;
-import seedu.address.model.session.ExerciseType;
-import seedu.address.model.session.Gym;
-import seedu.address.model.session.Interval;
-import seedu.address.model.session.Session;
 
 public class Homepage extends UiPart<AnchorPane> {
     private static final String FXML = "Homepage.fxml";
@@ -97,20 +90,15 @@ public class Homepage extends UiPart<AnchorPane> {
         assert(Homepage.homepage != null);
         this.lblContent.setText("Today's Schedule - "
                 + LocalDateTime.now().format(DateTimeFormatter.ofPattern("EEEE dd MMMM")));
-        todaySchedule.setItems(getTodaySchedule(addressBook.getScheduleList()));
+        todaySchedule.setItems(getTodaySchedule());
         todaySchedule.setPlaceholder(new Label("There are no schedules assigned today!"));
         todaySchedule.setPrefHeight(250);
         todaySchedule.setCellFactory(listView -> new Homepage.ScheduleListViewCell());
     }
 
-    private ObservableList<Schedule> getTodaySchedule(ObservableList<Schedule> scheduleList) {
-        Interval interval = new Interval(LocalDateTime.now().truncatedTo(DAYS), 60 * 24); //full day interval
-        Session overlappingSession = new Session(new Gym("temp"), new ExerciseType("temp"), interval);
-        List<Schedule> updatedList = scheduleList.stream()
-                .filter(x -> x.getSession().isIdentical(overlappingSession))
-                .sorted()
-                .collect(Collectors.toList());
-        return FXCollections.observableList(updatedList);
+    private ObservableList<Schedule> getTodaySchedule() {
+        LocalDate today = LocalDate.now();
+        return FXCollections.observableList(addressBook.findSchedulesBetween(today, today.plusDays(1)));
     }
 
     /**
@@ -1,11 +1,11 @@
 package seedu.address.ui;
 
 import static seedu.address.logic.commands.session.ViewSessionCommand.MESSAGE_SHOW_SESSIONS_SUCCESS;
-import static seedu.address.logic.commands.session.ViewSessionCommand.PREDICATE_SHOW_UPCOMING_WEEK_SESSIONS;
+import static seedu.address.logic.commands.session.ViewSessionCommand.getUpcomingWeekRange;
 import static seedu.address.logic.parser.session.CliSyntax.PREFIX_PERIOD;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.function.Predicate;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
@@ -21,7 +21,6 @@ import seedu.address.model.session.Session;
 public class RightSideBar extends UiPart<AnchorPane> {
     private static final String FXML = "RightSideBar.fxml";
     private static final String DEFAULT_VIEW = "WEEK";
-    private static final Predicate<Session> DEFAULT_PREDICATE = PREDICATE_SHOW_UPCOMING_WEEK_SESSIONS;
     private final MainWindow mainWindow;
     private final Logic logic;
     private String latestPeriod;
@@ -45,7 +44,7 @@ public class RightSideBar extends UiPart<AnchorPane> {
         sessionListView.setCellFactory(listView -> new RightSideBar.SessionListViewCell());
 
         updateTitle();
-        logic.updateFilteredSessionList(DEFAULT_PREDICATE);
+        logic.updateSessionRange(getUpcomingWeekRange(LocalDateTime.now()));
     }
 
     /**
@@ -37,6 +37,20 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validRestorePath_success() {
+        parametersStub.namedParameters.put("restore", "addressbook-20201018-090000000.json.gz");
+        expected.setRestorePath(Paths.get("addressbook-20201018-090000000.json.gz"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidRestorePath_success() {
+        parametersStub.namedParameters.put("restore", "a\0");
+        expected.setRestorePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,131 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.Benchmark.printHeading;
+import static seedu.address.benchmark.Benchmark.printResult;
+import static seedu.address.benchmark.Benchmark.timeMillis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.Session;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.SessionBuilder;
+
+/**
+ * Measures how long it takes to read a data file back into an {@code AddressBook}.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int[] SESSION_COUNTS = {5_000, 50_000};
+    private static final int[] SCHEDULE_COUNTS = {10_000, 100_000};
+    private static final int SCHEDULES_PER_SESSION = 2;
+    private static final int SCHEDULES_PER_CLIENT = 10;
+    private static final LocalDateTime FIRST_SESSION_START = LocalDateTime.of(2015, 1, 1, 8, 0);
+    private static final String ID_FIELD_PATTERN = "\"(id|clientId|sessionId)\" : \\d+,";
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        printHeading("Load data file");
+        for (int sessionCount : SESSION_COUNTS) {
+            AddressBook addressBook = new AddressBook();
+            generateSessions(sessionCount).forEach(addressBook::addSession);
+            printResult("sessions only", sessionCount, timeLoad(addressBook, false));
+        }
+        for (int scheduleCount : SCHEDULE_COUNTS) {
+            AddressBook addressBook = generateScheduledAddressBook(scheduleCount);
+            printResult("schedules", scheduleCount, timeLoad(addressBook, false));
+            printResult("schedules saved without ids", scheduleCount, timeLoad(addressBook, true));
+            printResult("schedules in binary file", scheduleCount,
+                    timeLoad(addressBook, ".bin", BinaryAddressBookStorage::new, false));
+            printResult("schedules in memory mapped binary file", scheduleCount,
+                    timeLoad(addressBook, ".bin", filePath -> new BinaryAddressBookStorage(filePath, true), false));
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to a temporary json data file and returns the time taken to read it back.
+     * If {@code isWithoutIds}, the ids are removed from the data file, as in files saved before ids were introduced.
+     */
+    private static double timeLoad(AddressBook addressBook, boolean isWithoutIds) {
+        return timeLoad(addressBook, ".json", JsonAddressBookStorage::new, isWithoutIds);
+    }
+
+    /**
+     * Saves {@code addressBook} to a temporary data file with the storage created by {@code storageFactory} and
+     * returns the time taken to read it back.
+     */
+    private static double timeLoad(AddressBook addressBook, String fileSuffix,
+                                   Function<Path, AddressBookStorage> storageFactory, boolean isWithoutIds) {
+        try {
+            Path dataFile = Files.createTempFile("addressbook", fileSuffix);
+            AddressBookStorage storage = storageFactory.apply(dataFile);
+            storage.saveAddressBook(addressBook);
+            if (isWithoutIds) {
+                Files.writeString(dataFile, Files.readString(dataFile).replaceAll(ID_FIELD_PATTERN, ""));
+            }
+            double millis = timeMillis(() -> {
+                try {
+                    storage.readAddressBook();
+                } catch (DataConversionException | IOException e) {
+                    throw new AssertionError(e);
+                }
+            }, 1, 3);
+            Files.delete(dataFile);
+            return millis;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBook} with {@code scheduleCount} schedules, each session having
+     * {@value #SCHEDULES_PER_SESSION} clients and each client {@value #SCHEDULES_PER_CLIENT} sessions.
+     */
+    private static AddressBook generateScheduledAddressBook(int scheduleCount) {
+        int clientCount = scheduleCount / SCHEDULES_PER_CLIENT;
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < clientCount; i++) {
+            addressBook.addClient(new ClientBuilder().withEmail("client" + i + "@example.com").build());
+        }
+        generateSessions(scheduleCount / SCHEDULES_PER_SESSION).forEach(addressBook::addSession);
+
+        List<Client> clients = addressBook.getClientList();
+        List<Session> sessions = addressBook.getSessionList();
+        for (int i = 0; i < scheduleCount; i++) {
+            addressBook.addSchedule(new ScheduleBuilder()
+                    .withClient(clients.get(i % clientCount))
+                    .withSession(sessions.get(i / SCHEDULES_PER_SESSION))
+                    .build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code count} back-to-back, non-overlapping one-hour sessions.
+     */
+    static List<Session> generateSessions(int count) {
+        List<Session> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sessions.add(new SessionBuilder()
+                    .withInterval(FIRST_SESSION_START.plusHours(2L * i).format(Interval.DATE_TIME_FORMATTER), "60")
+                    .build());
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.benchmark;
+
+/**
+ * Timing helpers shared by the benchmarks in this package.
+ * Benchmarks are plain programs rather than unit tests, run through {@code gradlew benchmark}.
+ */
+public class Benchmark {
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    /**
+     * Runs {@code task} a few times to warm up the JIT, then returns the best wall-clock time of the measured runs
+     * in milliseconds.
+     */
+    public static double timeMillis(Runnable task) {
+        return timeMillis(task, WARMUP_RUNS, MEASURED_RUNS);
+    }
+
+    /**
+     * Returns the best wall-clock time in milliseconds of {@code measuredRuns} runs of {@code task},
+     * after {@code warmupRuns} unmeasured runs.
+     */
+    public static double timeMillis(Runnable task, int warmupRuns, int measuredRuns) {
+        for (int i = 0; i < warmupRuns; i++) {
+            task.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < measuredRuns; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    /**
+     * Prints a section heading for a benchmark.
+     */
+    public static void printHeading(String title) {
+        System.out.println();
+        System.out.println("== " + title + " ==");
+    }
+
+    /**
+     * Prints one result line.
+     */
+    public static void printResult(String label, int size, double millis) {
+        System.out.printf("%-40s n=%-8d %12.3f ms%n", label, size, millis);
+    }
+
+    /**
+     * Prints a result line for a measurement that was skipped because it would take too long.
+     */
+    public static void printSkipped(String label, int size) {
+        System.out.printf("%-40s n=%-8d %15s%n", label, size, "skipped");
+    }
+}
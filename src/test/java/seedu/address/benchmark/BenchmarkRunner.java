@@ -0,0 +1,12 @@
+package seedu.address.benchmark;
+
+/**
+ * Runs every benchmark in this package.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) {
+        UniqueListBenchmark.run();
+        AddressBookLoadBenchmark.run();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.Benchmark.printHeading;
+import static seedu.address.benchmark.Benchmark.printResult;
+import static seedu.address.benchmark.Benchmark.printSkipped;
+import static seedu.address.benchmark.Benchmark.timeMillis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.KeyedIdentityIndex;
+import seedu.address.model.UniqueList;
+import seedu.address.model.client.Client;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.UniqueSessionList;
+import seedu.address.testutil.ClientBuilder;
+
+/**
+ * Compares {@code UniqueList} add/contains cost with and without an identity index, and measures the duplicate
+ * check done by {@code setAll}.
+ */
+public class UniqueListBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int CONTAINS_LOOKUPS = 1_000;
+    private static final int MAX_SCANNING_SIZE = 10_000;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        printHeading("UniqueList<Client> add / contains");
+        for (int size : SIZES) {
+            List<Client> clients = generateClients(size);
+            measure("indexed", size, clients, () -> new UniqueList<>(new KeyedIdentityIndex<>(Client::getEmail)));
+            measure("scanning", size, clients, UniqueList::new);
+        }
+
+        printHeading("UniqueList setAll (duplicate check)");
+        for (int size : SIZES) {
+            List<Client> clients = generateClients(size);
+            printResult("clients (hashing)", size, timeMillis(() ->
+                    new UniqueList<>(new KeyedIdentityIndex<>(Client::getEmail)).setAll(clients)));
+            List<Session> sessions = AddressBookLoadBenchmark.generateSessions(size);
+            printResult("sessions (sort and sweep)", size, timeMillis(() -> new UniqueSessionList().setAll(sessions)));
+        }
+    }
+
+    private static void measure(String label, int size, List<Client> clients,
+                                Supplier<UniqueList<Client>> listFactory) {
+        if (label.equals("scanning") && size > MAX_SCANNING_SIZE) {
+            printSkipped(label + " add all", size);
+            printSkipped(label + " contains x" + CONTAINS_LOOKUPS, size);
+            return;
+        }
+        printResult(label + " add all", size, timeMillis(() -> addAll(listFactory.get(), clients)));
+
+        UniqueList<Client> filled = listFactory.get();
+        addAll(filled, clients);
+        int step = Math.max(1, size / CONTAINS_LOOKUPS);
+        printResult(label + " contains x" + CONTAINS_LOOKUPS, size, timeMillis(() -> {
+            for (int i = 0; i < size; i += step) {
+                if (!filled.contains(clients.get(i))) {
+                    throw new AssertionError("Missing client " + i);
+                }
+            }
+        }));
+    }
+
+    private static void addAll(UniqueList<Client> list, List<Client> clients) {
+        for (Client client : clients) {
+            list.add(client);
+        }
+    }
+
+    /**
+     * Returns {@code count} clients with distinct emails.
+     */
+    static List<Client> generateClients(int count) {
+        List<Client> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clients.add(new ClientBuilder()
+                    .withName("Client " + i)
+                    .withEmail("client" + i + "@example.com")
+                    .build());
+        }
+        return clients;
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,31 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assertEquals("old", FileUtil.readFromFile(file));
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, output -> {
+            output.write("new".getBytes());
+            throw new IOException();
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomicallyKeepingPrevious_existingFile_previousContentsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path previousFile = FileUtil.getPreviousGenerationPath(file);
+
+        FileUtil.writeAtomicallyKeepingPrevious(file, output -> output.write("first".getBytes()));
+        assertFalse(Files.exists(previousFile));
+
+        FileUtil.writeAtomicallyKeepingPrevious(file, output -> output.write("second".getBytes()));
+        FileUtil.writeAtomicallyKeepingPrevious(file, output -> output.write("third".getBytes()));
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(previousFile));
+    }
+
 }
@@ -19,12 +19,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientSearchCriteria;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionRange;
 import seedu.address.model.util.WeightUnit;
 import seedu.address.testutil.ClientBuilder;
 
@@ -134,6 +137,21 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int updateAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -169,11 +187,21 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void searchClients(ClientSearchCriteria criteria) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSession(Session session) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasOverlappingSessionOtherThan(Session session, Session excludedSession) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSessionAssociatedSchedules(Session session) {
             throw new AssertionError("This method should not be called.");
@@ -204,29 +232,24 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-
         @Override
-        public boolean hasSchedule(Schedule schedule) {
+        public void updateSessionRange(SessionRange range) {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public boolean hasAnyScheduleAssociatedWithSession(Session session) {
-            throw new AssertionError("This method should not be called.");
-        }
 
         @Override
-        public void editSchedulesAssociatedWithSession(Session sessionToEdit, Session editedSession) {
+        public boolean hasSchedule(Schedule schedule) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean hasAnyScheduleAssociatedWithClient(Client toEdit) {
+        public boolean hasAnyScheduleAssociatedWithSession(Session session) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void editSchedulesAssociatedWithClient(Client toEdit, Client editedClient) {
+        public boolean hasAnyScheduleAssociatedWithClient(Client toEdit) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -260,11 +283,6 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void sortSession() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public List<Session> findSessionByClient(Client clientKey) {
             throw new AssertionError("This method should not be called.");
@@ -16,13 +16,15 @@ import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.client.NameContainsSubstringPredicate;
+import seedu.address.model.client.ClientSearchCriteria;
+import seedu.address.model.tag.Tag;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -33,19 +35,17 @@ public class FindClientCommandTest {
 
     @Test
     public void equals() {
-        NameContainsSubstringPredicate firstPredicate =
-                new NameContainsSubstringPredicate(Collections.singletonList("first"));
-        NameContainsSubstringPredicate secondPredicate =
-                new NameContainsSubstringPredicate(Collections.singletonList("second"));
+        ClientSearchCriteria firstCriteria = ClientSearchCriteria.ofNames(Collections.singletonList("first"));
+        ClientSearchCriteria secondCriteria = ClientSearchCriteria.ofNames(Collections.singletonList("second"));
 
-        FindClientCommand findFirstCommand = new FindClientCommand(firstPredicate);
-        FindClientCommand findSecondCommand = new FindClientCommand(secondPredicate);
+        FindClientCommand findFirstCommand = new FindClientCommand(firstCriteria);
+        FindClientCommand findSecondCommand = new FindClientCommand(secondCriteria);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindClientCommand findFirstCommandCopy = new FindClientCommand(firstPredicate);
+        FindClientCommand findFirstCommandCopy = new FindClientCommand(firstCriteria);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -61,9 +61,9 @@ public class FindClientCommandTest {
     @Test
     public void execute_zeroKeywords_noClientFound() {
         String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 0);
-        NameContainsSubstringPredicate predicate = preparePredicate(" ");
-        FindClientCommand command = new FindClientCommand(predicate);
-        expectedModel.updateFilteredClientList(predicate);
+        ClientSearchCriteria criteria = prepareCriteria(" ");
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredClientList());
     }
@@ -71,9 +71,9 @@ public class FindClientCommandTest {
     @Test
     public void execute_singleSubstring_noClientsFound() {
         String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 0);
-        NameContainsSubstringPredicate predicate = preparePredicate("abcdefghijklmnopqrstuvwxyz");
-        FindClientCommand command = new FindClientCommand(predicate);
-        expectedModel.updateFilteredClientList(predicate);
+        ClientSearchCriteria criteria = prepareCriteria("abcdefghijklmnopqrstuvwxyz");
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredClientList());
     }
@@ -81,9 +81,9 @@ public class FindClientCommandTest {
     @Test
     public void execute_singleSubstringIgnoreCase_twoClientsFound() {
         String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 2);
-        NameContainsSubstringPredicate predicate = preparePredicate("mEi");
-        FindClientCommand command = new FindClientCommand(predicate);
-        expectedModel.updateFilteredClientList(predicate);
+        ClientSearchCriteria criteria = prepareCriteria("mEi");
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredClientList());
     }
@@ -91,9 +91,9 @@ public class FindClientCommandTest {
     @Test
     public void execute_multipleKeywords_multipleClientsFound() {
         String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 3);
-        NameContainsSubstringPredicate predicate = preparePredicate("Kurz Elle Kunz");
-        FindClientCommand command = new FindClientCommand(predicate);
-        expectedModel.updateFilteredClientList(predicate);
+        ClientSearchCriteria criteria = prepareCriteria("Kurz Elle Kunz");
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredClientList());
     }
@@ -101,9 +101,9 @@ public class FindClientCommandTest {
     @Test
     public void execute_multipleSubstring_multipleClientsFound() {
         String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 5);
-        NameContainsSubstringPredicate predicate = preparePredicate("Ali Geo Mei Carl");
-        FindClientCommand command = new FindClientCommand(predicate);
-        expectedModel.updateFilteredClientList(predicate);
+        ClientSearchCriteria criteria = prepareCriteria("Ali Geo Mei Carl");
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, GEORGE), model.getFilteredClientList());
     }
@@ -111,17 +111,40 @@ public class FindClientCommandTest {
     @Test
     public void execute_multipleSubstring_noClientsFound() {
         String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 0);
-        NameContainsSubstringPredicate predicate = preparePredicate("abcde fghij klmno pqrst uvwxyz");
-        FindClientCommand command = new FindClientCommand(predicate);
-        expectedModel.updateFilteredClientList(predicate);
+        ClientSearchCriteria criteria = prepareCriteria("abcde fghij klmno pqrst uvwxyz");
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredClientList());
     }
 
+    @Test
+    public void execute_phoneAndTag_clientsWithBothFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 2);
+        ClientSearchCriteria criteria = new ClientSearchCriteria(Collections.emptyList(), Arrays.asList("94", "98"),
+                Collections.emptyList(), Collections.emptyList(), Set.of(new Tag("injured-thigh")));
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_nameEmailAndAddress_clientsMatchingAllFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 1);
+        ClientSearchCriteria criteria = new ClientSearchCriteria(Collections.singletonList("ei"),
+                Collections.emptyList(), Collections.singletonList("Cornelia@EXAMPLE"),
+                Collections.singletonList("10th str"), Collections.emptySet());
+        FindClientCommand command = new FindClientCommand(criteria);
+        expectedModel.updateFilteredClientList(criteria);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredClientList());
+    }
+
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code ClientSearchCriteria} that searches names only.
      */
-    private NameContainsSubstringPredicate preparePredicate(String userInput) {
-        return new NameContainsSubstringPredicate(Arrays.asList(userInput.split("\\s+")));
+    private ClientSearchCriteria prepareCriteria(String userInput) {
+        return ClientSearchCriteria.ofNames(Arrays.asList(userInput.split("\\s+")));
     }
 }
@@ -48,14 +48,14 @@ public class EditScheduleCommandTest {
 
     private static AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
-        for (Schedule schedule : getTypicalSchedules()) {
-            ab.addSchedule(schedule);
+        for (Client client : getTypicalClients()) {
+            ab.addClient(client);
         }
         for (Session session : getTypicalSessions()) {
             ab.addSession(session);
         }
-        for (Client client : getTypicalClients()) {
-            ab.addClient(client);
+        for (Schedule schedule : getTypicalSchedules()) {
+            ab.addSchedule(schedule);
         }
         return ab;
     }
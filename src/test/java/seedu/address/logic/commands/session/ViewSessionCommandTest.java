@@ -17,6 +17,8 @@ import static seedu.address.testutil.TypicalSessions.MACHOMAN_TOMORROW;
 import static seedu.address.testutil.TypicalSessions.ULTRAMAN;
 import static seedu.address.testutil.TypicalSessions.getDynamicTimeAddressBook;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +58,36 @@ public class ViewSessionCommandTest {
         assertCommandSuccess(viewSessionCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_viewPastSessionsWithHistoryLeftOut_historyLoaded() {
+        AddressBookBuilder recentStub = new AddressBookBuilder();
+        recentStub.withSession(MACHOMAN_NOW);
+        recentStub.withSession(MACHOMAN_TOMORROW);
+        recentStub.withSession(MACHOMAN_PLUS2MONTHS);
+        recentStub.withSession(MACHOMAN_MINUS1WEEK);
+        AddressBookBuilder historyStub = new AddressBookBuilder();
+        historyStub.withSession(MACHOMAN);
+        historyStub.withSession(ULTRAMAN);
+        historyStub.withSession(GETWELL);
+        model = new ModelManager(recentStub.build(), new UserPrefs(), LocalDate.now().minusWeeks(1),
+                historyStub::build);
+
+        // Upcoming sessions do not need the past sessions
+        new ViewSessionCommand(VALID_WEEK_SESSIONS_PERIOD).execute(model);
+        assertFalse(model.getAddressBook().getSessionList().contains(GETWELL));
+
+        ViewSessionCommand viewSessionCommand = new ViewSessionCommand(VALID_PAST_SESSIONS_PERIOD);
+        String expectedMessage = String.format(MESSAGE_SHOW_SESSIONS_SUCCESS, VALID_PAST_SESSIONS_PERIOD);
+        AddressBookBuilder addressBookStub = new AddressBookBuilder();
+        addressBookStub.withSession(MACHOMAN);
+        addressBookStub.withSession(ULTRAMAN);
+        addressBookStub.withSession(GETWELL);
+        addressBookStub.withSession(MACHOMAN_MINUS1WEEK);
+        ModelManager expectedModel = new ModelManager(addressBookStub.build(), new UserPrefs());
+
+        assertCommandSuccess(viewSessionCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_viewFutureSessions_success() {
         ViewSessionCommand viewSessionCommand = new ViewSessionCommand(VALID_FUTURE_SESSIONS_PERIOD);
@@ -29,7 +29,7 @@ import seedu.address.logic.commands.client.ViewClientCommand;
 import seedu.address.logic.commands.session.ViewSessionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.Client;
-import seedu.address.model.client.NameContainsSubstringPredicate;
+import seedu.address.model.client.ClientSearchCriteria;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.ClientUtil;
 import seedu.address.testutil.EditClientDescriptorBuilder;
@@ -85,7 +85,7 @@ public class AddressBookParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindClientCommand command = (FindClientCommand) parser.parseCommand(
                 FindClientCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindClientCommand(new NameContainsSubstringPredicate(keywords)), command);
+        assertEquals(new FindClientCommand(ClientSearchCriteria.ofNames(keywords)), command);
     }
 
     @Test
@@ -5,11 +5,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.client.FindClientCommand;
-import seedu.address.model.client.NameContainsSubstringPredicate;
+import seedu.address.model.client.ClientSearchCriteria;
+import seedu.address.model.tag.Tag;
 
 public class FindClientCommandParserTest {
 
@@ -25,11 +28,30 @@ public class FindClientCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindClientCommand expectedFindClientCommand =
-                new FindClientCommand(new NameContainsSubstringPredicate(Arrays.asList("Alice", "Bob")));
+                new FindClientCommand(ClientSearchCriteria.ofNames(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindClientCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindClientCommand);
     }
 
+    @Test
+    public void parse_prefixedArgs_returnsFindCommand() {
+        FindClientCommand expectedFindClientCommand = new FindClientCommand(new ClientSearchCriteria(
+                Arrays.asList("Alice", "Bob Lee"), Collections.singletonList("9123"),
+                Collections.singletonList("example.com"), Arrays.asList("Clementi Ave", "Jurong"),
+                Set.of(new Tag("friends"), new Tag("injured-thigh"))));
+        assertParseSuccess(parser, " Alice n/Bob Lee p/9123 e/example.com a/Clementi Ave a/Jurong t/friends "
+                + "t/injured-thigh", expectedFindClientCommand);
+    }
+
+    @Test
+    public void parse_emptyOrInvalidPrefixedArgs_throwsParseException() {
+        assertParseFailure(parser, " p/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindClientCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " Alice e/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindClientCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/friends*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
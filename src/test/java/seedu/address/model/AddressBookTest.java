@@ -2,27 +2,43 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.client.ClientCommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.client.ClientCommandTestUtil.VALID_TAG_INJURY;
+import static seedu.address.logic.commands.session.SessionCommandTestUtil.VALID_GYM_MACHOMAN;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.ALICE_GETWELL;
+import static seedu.address.testutil.TypicalSchedules.ALICE_MACHOMAN;
+import static seedu.address.testutil.TypicalSchedules.BENSON_GETWELL;
+import static seedu.address.testutil.TypicalSchedules.TEST_REMARK;
+import static seedu.address.testutil.TypicalSessions.GETWELL;
+import static seedu.address.testutil.TypicalSessions.MACHOMAN;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.exceptions.DuplicateEntityException;
+import seedu.address.model.exceptions.EntityNotFoundException;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.SessionBuilder;
 
 public class AddressBookTest {
 
@@ -85,6 +101,249 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getClientList().remove(0));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenModified() {
+        long version = addressBook.getVersion();
+        addressBook.hasClient(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addClient(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removeClient(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void findScheduleByClient_schedulesAdded_returnsOnlyThatClientsSchedules() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(BENSON_GETWELL);
+        addressBook.addSchedule(ALICE_MACHOMAN);
+        assertEquals(Arrays.asList(ALICE_GETWELL, ALICE_MACHOMAN), addressBook.findScheduleByClient(ALICE));
+        assertEquals(Arrays.asList(ALICE_GETWELL, BENSON_GETWELL), addressBook.findScheduleBySession(GETWELL));
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.findClientBySession(GETWELL));
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN), addressBook.findSessionByClient(ALICE));
+        assertEquals(ALICE_MACHOMAN, addressBook.findScheduleByClientAndSession(ALICE, MACHOMAN));
+    }
+
+    @Test
+    public void setSchedule_sameClientAndSession_keepsAssociationOrder() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(ALICE_MACHOMAN);
+        Schedule remarkedAliceGetwell = new ScheduleBuilder(ALICE_GETWELL).withRemark(TEST_REMARK).build();
+        addressBook.setSchedule(ALICE_GETWELL, remarkedAliceGetwell);
+        assertEquals(Arrays.asList(remarkedAliceGetwell, ALICE_MACHOMAN), addressBook.findScheduleByClient(ALICE));
+    }
+
+    @Test
+    public void setSchedule_differentSession_movesAssociation() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        Schedule aliceMachoman = new ScheduleBuilder(ALICE_GETWELL).withSession(MACHOMAN).build();
+        addressBook.setSchedule(ALICE_GETWELL, aliceMachoman);
+        assertFalse(addressBook.hasAnyScheduleAssociatedWithSession(GETWELL));
+        assertEquals(Collections.singletonList(aliceMachoman), addressBook.findScheduleBySession(MACHOMAN));
+    }
+
+    @Test
+    public void removeSchedule_lastScheduleOfClient_removesAssociation() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(BENSON_GETWELL);
+        addressBook.removeSchedule(ALICE_GETWELL);
+        assertFalse(addressBook.hasAnyScheduleAssociatedWithClient(ALICE));
+        assertTrue(addressBook.hasAnyScheduleAssociatedWithClient(BENSON));
+        assertEquals(Collections.singletonList(BENSON_GETWELL), addressBook.findScheduleBySession(GETWELL));
+    }
+
+    @Test
+    public void setSchedules_replacesAssociations() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.setSchedules(Collections.singletonList(BENSON_GETWELL));
+        assertFalse(addressBook.hasAnyScheduleAssociatedWithClient(ALICE));
+        assertTrue(addressBook.hasAnyScheduleAssociatedWithClientAndSession(BENSON, GETWELL));
+    }
+
+    @Test
+    public void findSchedulesBetween_schedulesOnSeveralDays_returnsSchedulesOfSessionsOnThoseDays() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_MACHOMAN);
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(BENSON_GETWELL);
+        LocalDate september29 = LocalDate.of(2020, 9, 29);
+
+        assertEquals(Arrays.asList(ALICE_GETWELL, BENSON_GETWELL, ALICE_MACHOMAN),
+                addressBook.findSchedulesBetween(september29, september29.plusDays(1)));
+        assertEquals(Collections.emptyList(),
+                addressBook.findSchedulesBetween(september29.plusDays(1), september29.plusDays(2)));
+    }
+
+    @Test
+    public void removeSchedules_schedulesOfClient_removedInOneChange() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(BENSON_GETWELL);
+        addressBook.addSchedule(ALICE_MACHOMAN);
+        List<ListChangeListener.Change<? extends Schedule>> changes = recordChanges(addressBook.getScheduleList());
+
+        addressBook.removeSchedules(addressBook.findScheduleByClient(ALICE));
+
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(BENSON_GETWELL), addressBook.getScheduleList());
+        assertFalse(addressBook.hasAnyScheduleAssociatedWithClient(ALICE));
+        assertFalse(addressBook.hasAnyScheduleAssociatedWithSession(MACHOMAN));
+        assertEquals(Collections.singletonList(BENSON_GETWELL), addressBook.findScheduleBySession(GETWELL));
+    }
+
+    @Test
+    public void removeSchedules_scheduleNotInAddressBook_throwsEntityNotFoundException() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        assertThrows(EntityNotFoundException.class, () ->
+                addressBook.removeSchedules(Arrays.asList(ALICE_GETWELL, BENSON_GETWELL)));
+        assertEquals(Collections.singletonList(ALICE_GETWELL), addressBook.getScheduleList());
+    }
+
+    @Test
+    public void replaceSchedules_sameIdentityAsAnotherSchedule_throwsDuplicateEntityException() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(ALICE_MACHOMAN);
+        Schedule aliceMachoman = new ScheduleBuilder(ALICE_GETWELL).withSession(MACHOMAN).build();
+        assertThrows(DuplicateEntityException.class, () ->
+                addressBook.replaceSchedules(Map.of(ALICE_GETWELL, aliceMachoman)));
+        assertEquals(Arrays.asList(ALICE_GETWELL, ALICE_MACHOMAN), addressBook.getScheduleList());
+    }
+
+    @Test
+    public void addSchedule_clientNotInAddressBook_throwsEntityNotFoundException() {
+        addressBook.addSession(GETWELL);
+        assertThrows(EntityNotFoundException.class, () -> addressBook.addSchedule(ALICE_GETWELL));
+    }
+
+    @Test
+    public void addClient_clientsWithoutIds_assignsDistinctIds() {
+        addClientsAndSessions();
+        long aliceId = addressBook.getClientList().get(0).getId();
+        long bensonId = addressBook.getClientList().get(1).getId();
+        assertNotEquals(Client.UNASSIGNED_ID, aliceId);
+        assertNotEquals(aliceId, bensonId);
+        assertEquals(ALICE, addressBook.getClientById(aliceId).get());
+    }
+
+    @Test
+    public void removeClient_clientWithIdOfAnotherClient_removesClientWithSameIdentity() {
+        addClientsAndSessions();
+        long aliceId = addressBook.getClientList().get(0).getId();
+        Client bensonWithAliceId = addressBook.getClientList().get(1).withId(aliceId);
+
+        addressBook.removeClient(bensonWithAliceId);
+
+        assertEquals(Collections.singletonList(ALICE), addressBook.getClientList());
+        assertThrows(EntityNotFoundException.class, () -> addressBook.removeClient(BENSON.withId(aliceId)));
+    }
+
+    @Test
+    public void setClient_clientWithSchedules_schedulesFollowEditedClient() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(BENSON_GETWELL);
+        long aliceId = addressBook.getClientList().get(0).getId();
+
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setClient(ALICE, editedAlice);
+
+        assertEquals(aliceId, addressBook.getClientList().get(0).getId());
+        Schedule editedAliceGetwell = new ScheduleBuilder(ALICE_GETWELL).withClient(editedAlice).build();
+        assertEquals(Collections.singletonList(editedAliceGetwell), addressBook.findScheduleByClient(editedAlice));
+        assertEquals(Arrays.asList(editedAliceGetwell, BENSON_GETWELL), addressBook.getScheduleList());
+    }
+
+    @Test
+    public void setClient_clientWithSchedules_schedulesReplacedInOneChange() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.addSchedule(BENSON_GETWELL);
+        addressBook.addSchedule(ALICE_MACHOMAN);
+        List<ListChangeListener.Change<? extends Schedule>> changes = recordChanges(addressBook.getScheduleList());
+
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setClient(ALICE, editedAlice);
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(new ScheduleBuilder(ALICE_GETWELL).withClient(editedAlice).build(),
+                new ScheduleBuilder(ALICE_MACHOMAN).withClient(editedAlice).build()),
+                addressBook.findScheduleByClient(editedAlice));
+
+        // Only Alice's schedules are replaced, not the whole list
+        ListChangeListener.Change<? extends Schedule> change = changes.get(0);
+        change.reset();
+        int replacedCount = 0;
+        while (change.next()) {
+            replacedCount += change.getRemovedSize();
+        }
+        assertEquals(2, replacedCount);
+    }
+
+    @Test
+    public void setSession_sessionWithSchedules_schedulesFollowEditedSession() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+
+        Session editedGetwell = new SessionBuilder(GETWELL).withGym(VALID_GYM_MACHOMAN).build();
+        addressBook.setSession(GETWELL, editedGetwell);
+
+        assertTrue(addressBook.hasAnyScheduleAssociatedWithClientAndSession(ALICE, editedGetwell));
+        assertEquals(editedGetwell, addressBook.getScheduleList().get(0).getSession());
+    }
+
+    @Test
+    public void takeChanges_entitiesModified_onlyModifiedEntitiesRecorded() {
+        addClientsAndSessions();
+        addressBook.addSchedule(ALICE_GETWELL);
+        addressBook.takeChanges();
+
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setClient(ALICE, editedAlice);
+        addressBook.removeClient(BENSON);
+        AddressBookChanges changes = addressBook.takeChanges();
+
+        // The schedule of Alice refers to her by id, so it is not recorded
+        assertEquals(Collections.singletonList(editedAlice), new ArrayList<>(changes.getPutClients()));
+        assertEquals(Collections.singletonList(BENSON), new ArrayList<>(changes.getRemovedClients()));
+        assertTrue(changes.getPutSchedules().isEmpty());
+        assertTrue(addressBook.takeChanges().isEmpty());
+
+        addressBook.setClients(Collections.singletonList(ALICE));
+        assertTrue(addressBook.takeChanges().isReplacingAll());
+    }
+
+    @Test
+    public void resetData_addressBookWithSchedules_keepsIds() {
+        addClientsAndSessions();
+        addressBook.addSchedule(BENSON_GETWELL);
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook.getClientList().get(1).getId(), copy.getClientList().get(1).getId());
+        assertEquals(addressBook.getScheduleList().get(0).getSessionId(), copy.getScheduleList().get(0).getSessionId());
+    }
+
+    private static <T> List<ListChangeListener.Change<? extends T>> recordChanges(ObservableList<T> list) {
+        List<ListChangeListener.Change<? extends T>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<T>) changes::add);
+        return changes;
+    }
+
+    private void addClientsAndSessions() {
+        addressBook.addClient(ALICE);
+        addressBook.addClient(BENSON);
+        addressBook.addSession(GETWELL);
+        addressBook.addSession(MACHOMAN);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose Clients list can violate interface constraints.
      */
@@ -114,6 +373,16 @@ public class AddressBookTest {
         public ObservableList<Schedule> getScheduleList() {
             return null;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public List<Schedule> findSchedulesBetween(LocalDate firstDay, LocalDate endDay) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
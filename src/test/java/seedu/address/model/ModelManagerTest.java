@@ -2,31 +2,49 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
 import static seedu.address.testutil.TypicalSchedules.ALICE_GETWELL;
 import static seedu.address.testutil.TypicalSchedules.BENSON_GETWELL;
+import static seedu.address.testutil.TypicalSchedules.TEST_REMARK;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalSessions.GETWELL;
 import static seedu.address.testutil.TypicalSessions.MACHOMAN;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientSearchCriteria;
 import seedu.address.model.client.NameContainsSubstringPredicate;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.IntervalContainsDatetimePredicate;
+import seedu.address.model.session.Session;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.SessionBuilder;
 
 public class ModelManagerTest {
 
+    private static final LocalDate FIRST_LOADED_DAY = LocalDate.of(2020, 9, 29);
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -102,6 +120,39 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void searchClients_matchingClientAddedAfterSearch_clientShown() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.searchClients(ClientSearchCriteria.ofNames(List.of("alex")));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredClientList());
+
+        AddressBook updated = new AddressBook(modelManager.getAddressBook());
+        Client alex = new ClientBuilder().withName("Alex Tan").withEmail("alex@example.com").build();
+        updated.addClient(alex);
+        modelManager.updateAddressBook(updated);
+
+        assertEquals(Collections.singletonList(alex), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void searchClients_clientsEditedAfterSearch_onlyMatchingClientsShown() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.searchClients(ClientSearchCriteria.ofNames(List.of("alice")));
+
+        Client editedAlice = new ClientBuilder(ALICE).withName("Alyssa Pauline").build();
+        Client editedBenson = new ClientBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setClient(ALICE, editedAlice);
+        modelManager.setClient(BENSON, editedBenson);
+
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredClientList());
+
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        modelManager.setClient(editedBenson, BENSON);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredClientList());
+    }
+
     // Session Related Tests =================================================================
 
     @Test
@@ -127,12 +178,16 @@ public class ModelManagerTest {
 
     @Test
     public void hasAnySessionAssociatedSchedules_sessionNotInAddressBook_returnsFalse() {
+        modelManager.addClient(ALICE);
+        modelManager.addSession(GETWELL);
         modelManager.addSchedule(ALICE_GETWELL);
         assertFalse(modelManager.hasAnyScheduleAssociatedWithSession(MACHOMAN));
     }
 
     @Test
     public void hasAnySessionAssociatedSchedules_sessionInAddressBook_returnsTrue() {
+        modelManager.addClient(ALICE);
+        modelManager.addSession(GETWELL);
         modelManager.addSchedule(ALICE_GETWELL);
         assertTrue(modelManager.hasAnyScheduleAssociatedWithSession(GETWELL));
     }
@@ -156,6 +211,8 @@ public class ModelManagerTest {
 
     @Test
     public void hasSchedule_scheduleInAddressBook_returnsTrue() {
+        modelManager.addClient(ALICE);
+        modelManager.addSession(GETWELL);
         modelManager.addSchedule(ALICE_GETWELL);
         assertTrue(modelManager.hasSchedule(ALICE_GETWELL));
     }
@@ -165,6 +222,127 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredScheduleList().remove(0));
     }
 
+    // History Related Tests =================================================================
+
+    @Test
+    public void loadHistory_withHistoryLoader_addsPastSessionsOnce() {
+        AddressBook recent = new AddressBookBuilder().withClient(ALICE).withSession(MACHOMAN).build();
+        AddressBook history = new AddressBookBuilder().withClient(ALICE).withSession(GETWELL)
+                .withSchedule(ALICE_GETWELL).build();
+        int[] loadCount = {0};
+        modelManager = new ModelManager(recent, new UserPrefs(), FIRST_LOADED_DAY, () -> {
+            loadCount[0]++;
+            return history;
+        });
+        assertEquals(1, modelManager.getFilteredSessionList().size());
+
+        // Checking for overlapping sessions needs the past sessions
+        assertTrue(modelManager.hasSession(GETWELL));
+        assertEquals(Arrays.asList(ALICE_GETWELL), modelManager.findScheduleByClient(ALICE));
+        modelManager.loadHistory();
+        assertEquals(1, loadCount[0]);
+        assertEquals(2, modelManager.getFilteredSessionList().size());
+    }
+
+    @Test
+    public void loadHistory_onlyLaterSessionsUsed_historyNotLoaded() {
+        AddressBook recent = new AddressBookBuilder().withClient(ALICE).withSession(MACHOMAN).build();
+        // The sessions left out have ids up to 5
+        recent.reserveSessionIds(5);
+        AddressBook history = new AddressBookBuilder().withClient(ALICE).withSession(GETWELL)
+                .withSchedule(ALICE_GETWELL).build();
+        int[] loadCount = {0};
+        modelManager = new ModelManager(recent, new UserPrefs(), FIRST_LOADED_DAY, () -> {
+            loadCount[0]++;
+            return history;
+        });
+
+        Session laterSession = new SessionBuilder().withInterval("02/11/2020 1000", "60").build();
+        assertFalse(modelManager.hasSession(laterSession));
+        modelManager.addSession(laterSession);
+        modelManager.findSessionByClient(ALICE);
+        assertEquals(0, loadCount[0]);
+        assertTrue(modelManager.getAddressBook().getSessionList().stream()
+                .filter(laterSession::isIdentical).allMatch(session -> session.getId() > 5));
+
+        // Sessions on the first loaded day may overlap sessions that started before it
+        modelManager.hasSession(new SessionBuilder().withInterval("29/09/2020 1800", "60").build());
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void loadHistory_historyLoaderFails_addressBookUnchanged() {
+        AddressBook recent = new AddressBookBuilder().withClient(ALICE).withSession(MACHOMAN).build();
+        modelManager = new ModelManager(recent, new UserPrefs(), FIRST_LOADED_DAY, () -> {
+            throw new IOException("Cannot read");
+        });
+
+        modelManager.loadHistory();
+
+        assertEquals(recent, modelManager.getAddressBook());
+        assertEquals(1, modelManager.getFilteredSessionList().size());
+    }
+
+    // External Change Related Tests =========================================================
+
+    @Test
+    public void updateAddressBook_someEntitiesChanged_onlyChangedEntitiesReplaced() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Client unchangedClient = modelManager.getAddressBook().getClientList().get(1);
+        AddressBook updated = new AddressBook(modelManager.getAddressBook());
+        Client client = updated.getClientList().get(0);
+        updated.setClient(client, new ClientBuilder(client).withPhone("99999999").build());
+        Schedule schedule = updated.getScheduleList().get(0);
+        updated.setSchedule(schedule, new ScheduleBuilder(schedule).withRemark(TEST_REMARK).build());
+        updated.addSession(new SessionBuilder().withInterval("02/11/2020 1000", "60").build());
+
+        assertEquals(3, modelManager.updateAddressBook(updated));
+
+        assertSameData(updated, modelManager.getAddressBook());
+        assertSame(unchangedClient, modelManager.getAddressBook().getClientList().get(1));
+        assertEquals(0, modelManager.updateAddressBook(updated));
+    }
+
+    @Test
+    public void updateAddressBook_clientAddedWithIdOfAnotherClient_clientRemovedAndAdded() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // Another program added a different client, which was given the same id as the client added here
+        AddressBook updated = new AddressBook(modelManager.getAddressBook());
+        updated.addClient(HOON);
+        modelManager.addClient(IDA);
+        List<Client> clients = modelManager.getAddressBook().getClientList();
+        assertEquals(updated.getClientList().get(clients.size() - 1).getId(), clients.get(clients.size() - 1).getId());
+
+        assertEquals(2, modelManager.updateAddressBook(updated));
+
+        assertSameData(updated, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void updateAddressBook_clientsSwapEmails_clientsRemovedAndAdded() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook updated = new AddressBook(modelManager.getAddressBook());
+        Client first = updated.getClientList().get(0);
+        Client second = updated.getClientList().get(1);
+        updated.setClient(first, new ClientBuilder(first).withEmail("temporary@example.com").build());
+        updated.setClient(second, new ClientBuilder(second).withEmail(first.getEmail().value).build());
+        updated.setClient(updated.getClientById(first.getId()).get(),
+                new ClientBuilder(first).withEmail(second.getEmail().value).build());
+
+        // Clients with another email are other clients, even though they kept their ids, and so are their schedules
+        long scheduleCount = updated.getScheduleList().stream().filter(schedule ->
+                schedule.getClientId() == first.getId() || schedule.getClientId() == second.getId()).count();
+        assertEquals(2 * (2 + scheduleCount), modelManager.updateAddressBook(updated));
+
+        assertSameData(updated, modelManager.getAddressBook());
+    }
+
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        assertEquals(expected.getSessionList(), actual.getSessionList());
+        assertEquals(expected.getScheduleList(), actual.getScheduleList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder()
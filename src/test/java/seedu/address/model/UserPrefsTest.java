@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,6 +23,45 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void getAddressBookFilePath_defaultPath_extensionOfFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(Paths.get("data", "addressbook.json"), userPrefs.getAddressBookFilePath());
+
+        userPrefs.setAddressBookFileFormat(DataFileFormat.BINARY);
+        assertEquals(Paths.get("data", "addressbook.bin"), userPrefs.getAddressBookFilePath());
+        userPrefs.setAddressBookFileFormat(DataFileFormat.SQL);
+        assertEquals(Paths.get("data", "addressbook.db"), userPrefs.getAddressBookFilePath());
+        userPrefs.setAddressBookFileFormat(DataFileFormat.SHARDED);
+        assertEquals(Paths.get("data", "addressbook.json"), userPrefs.getAddressBookFilePath());
+    }
+
+    @Test
+    public void getAddressBookFilePath_pathSet_pathKept() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(Paths.get("fitego.json"));
+        userPrefs.setAddressBookFileFormat(DataFileFormat.BINARY);
+        assertEquals(Paths.get("fitego.json"), userPrefs.getAddressBookFilePath());
+    }
+
+    @Test
+    public void setRecentMonthsToLoad_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRecentMonthsToLoad(-1));
+    }
+
+    @Test
+    public void setSnapshotGenerations_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setSnapshotGenerations(-1));
+    }
+
     @Test
     public void setPreferredWeightUnit_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
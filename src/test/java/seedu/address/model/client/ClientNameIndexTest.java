@@ -0,0 +1,60 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientNameIndexTest {
+
+    private final ClientNameIndex clientNameIndex = new ClientNameIndex();
+
+    @Test
+    public void findIdsContaining_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> clientNameIndex.findIdsContaining(null));
+    }
+
+    @Test
+    public void findIdsContaining_keywords_returnsIdsOfMatchingNames() {
+        clientNameIndex.add(ALICE.withId(1));
+        clientNameIndex.add(BENSON.withId(2));
+        clientNameIndex.add(DANIEL.withId(3));
+        clientNameIndex.add(ELLE.withId(4));
+
+        // Keywords with trigrams, ignoring case
+        assertEquals(Set.of(2L, 3L), clientNameIndex.findIdsContaining("mEIeR"));
+        assertEquals(Set.of(1L), clientNameIndex.findIdsContaining("alice p"));
+
+        // Every trigram of the keyword is in Elle Meyer, but the keyword is not
+        assertEquals(Collections.emptySet(), clientNameIndex.findIdsContaining("meyelle"));
+        assertEquals(Collections.emptySet(), clientNameIndex.findIdsContaining("xyz"));
+
+        // Keywords too short to have a trigram
+        assertEquals(Set.of(2L, 3L, 4L), clientNameIndex.findIdsContaining("Me"));
+        assertEquals(Set.of(1L, 2L, 3L, 4L), clientNameIndex.findIdsContaining(" "));
+    }
+
+    @Test
+    public void findIdsContaining_namesEditedAndRemoved_returnsCurrentNames() {
+        Client benson = BENSON.withId(2);
+        clientNameIndex.add(ALICE.withId(1));
+        clientNameIndex.add(benson);
+
+        clientNameIndex.remove(benson);
+        clientNameIndex.add(new ClientBuilder(benson).withName("Benson Smith").build().withId(2));
+        assertEquals(Collections.emptySet(), clientNameIndex.findIdsContaining("meier"));
+        assertEquals(Set.of(2L), clientNameIndex.findIdsContaining("smith"));
+
+        clientNameIndex.clear();
+        assertEquals(Collections.emptySet(), clientNameIndex.findIdsContaining("alice"));
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientSearchIndexTest {
+
+    private static final Tag INJURED_THIGH = new Tag("injured-thigh");
+    private static final Tag ALLERGY_DAIRY = new Tag("allergy-dairy");
+
+    private final ClientSearchIndex clientSearchIndex = new ClientSearchIndex();
+
+    @Test
+    public void findIds_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> clientSearchIndex.findIds(null));
+    }
+
+    @Test
+    public void findIds_criteria_returnsIdsOfClientsMatchingEveryField() {
+        List<Client> clients = List.of(ALICE.withId(1), BENSON.withId(2), CARL.withId(3), DANIEL.withId(4),
+                ELLE.withId(5));
+        clients.forEach(clientSearchIndex::add);
+
+        // Phones start with either keyword
+        assertFindsSameAsCriteria(clients, Set.of(1L, 2L, 5L), criteria(List.of(), List.of("94", "98"),
+                List.of(), List.of(), Set.of()));
+        // Every word of an email or address keyword starts a word of the field, ignoring case
+        assertFindsSameAsCriteria(clients, Set.of(4L), criteria(List.of(), List.of(),
+                List.of("CORNELIA@example"), List.of(), Set.of()));
+        assertFindsSameAsCriteria(clients, Set.of(3L, 4L), criteria(List.of(), List.of(), List.of(),
+                List.of("str"), Set.of()));
+        assertFindsSameAsCriteria(clients, Collections.emptySet(), criteria(List.of(), List.of(),
+                List.of("example@cornelia"), List.of("treet"), Set.of()));
+        // Clients have every tag
+        assertFindsSameAsCriteria(clients, Set.of(1L, 2L, 4L), criteria(List.of(), List.of(), List.of(),
+                List.of(), Set.of(INJURED_THIGH)));
+        assertFindsSameAsCriteria(clients, Set.of(2L), criteria(List.of(), List.of(), List.of(),
+                List.of(), Set.of(INJURED_THIGH, ALLERGY_DAIRY)));
+        // Fields are intersected, with the tags checked first or last
+        assertFindsSameAsCriteria(clients, Set.of(4L), criteria(List.of("meier"), List.of("8"), List.of(),
+                List.of(), Set.of(INJURED_THIGH)));
+        assertFindsSameAsCriteria(clients, Set.of(2L), criteria(List.of("ben"), List.of(), List.of(),
+                List.of(), Set.of(INJURED_THIGH)));
+        // No field searched
+        assertFindsSameAsCriteria(clients, Collections.emptySet(), criteria(List.of(), List.of(), List.of(),
+                List.of(), Set.of()));
+    }
+
+    @Test
+    public void findIds_clientsEditedAndRemoved_returnsIdsOfCurrentClients() {
+        Client benson = BENSON.withId(2);
+        clientSearchIndex.add(ALICE.withId(1));
+        clientSearchIndex.add(benson);
+
+        clientSearchIndex.remove(ALICE.withId(1));
+        clientSearchIndex.remove(benson);
+        clientSearchIndex.add(new ClientBuilder(benson).withPhone("12345678").withTags().build().withId(2));
+        clientSearchIndex.add(CARL.withId(3));
+        assertEquals(Collections.emptySet(), clientSearchIndex.findIds(criteria(List.of(), List.of(), List.of(),
+                List.of(), Set.of(INJURED_THIGH))));
+        assertEquals(Set.of(2L), clientSearchIndex.findIds(criteria(List.of(), List.of("123"), List.of(),
+                List.of(), Set.of())));
+
+        clientSearchIndex.clear();
+        assertEquals(Collections.emptySet(), clientSearchIndex.findIds(criteria(List.of(), List.of("123"),
+                List.of(), List.of(), Set.of())));
+    }
+
+    @Test
+    public void test_criteria_matchesEveryField() {
+        ClientSearchCriteria criteria = criteria(List.of("alice"), List.of("94"), List.of(), List.of("jurong"),
+                Set.of(INJURED_THIGH));
+        assertTrue(criteria.test(ALICE));
+        assertFalse(criteria.test(new ClientBuilder(ALICE).withTags().build()));
+        assertFalse(criteria.test(new ClientBuilder(ALICE).withPhone("81234567").build()));
+        assertFalse(criteria(List.of(), List.of(), List.of(), List.of(), Set.of()).test(ALICE));
+    }
+
+    private void assertFindsSameAsCriteria(List<Client> clients, Set<Long> expectedIds,
+            ClientSearchCriteria criteria) {
+        assertEquals(expectedIds, clientSearchIndex.findIds(criteria));
+        for (Client client : clients) {
+            assertEquals(expectedIds.contains(client.getId()), criteria.test(client));
+        }
+    }
+
+    private static ClientSearchCriteria criteria(List<String> nameKeywords, List<String> phoneKeywords,
+            List<String> emailKeywords, List<String> addressKeywords, Set<Tag> tags) {
+        return new ClientSearchCriteria(nameKeywords, phoneKeywords, emailKeywords, addressKeywords, tags);
+    }
+}
@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.KeyedIdentityIndex;
 import seedu.address.model.UniqueList;
 import seedu.address.model.exceptions.DuplicateEntityException;
 import seedu.address.model.exceptions.EntityNotFoundException;
@@ -22,7 +23,8 @@ import seedu.address.testutil.ClientBuilder;
 
 public class UniqueClientListTest {
 
-    private final UniqueList<Client> uniqueClientList = new UniqueList<>();
+    private final UniqueList<Client> uniqueClientList =
+            new UniqueList<>(new KeyedIdentityIndex<>(Client::getEmail));
 
     @Test
     public void contains_nullClient_throwsNullPointerException() {
@@ -110,6 +112,14 @@ public class UniqueClientListTest {
         assertThrows(DuplicateEntityException.class, () -> uniqueClientList.set(ALICE, BOB));
     }
 
+    @Test
+    public void set_editedClientHasDifferentIdentity_releasesOldIdentity() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.set(ALICE, BOB);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
+    }
+
     @Test
     public void remove_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.remove(null));
@@ -126,6 +136,7 @@ public class UniqueClientListTest {
         uniqueClientList.remove(ALICE);
         UniqueList<Client> expectedUniqueClientList = new UniqueList<>();
         assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertFalse(uniqueClientList.contains(ALICE));
     }
 
     @Test
@@ -155,6 +166,8 @@ public class UniqueClientListTest {
         UniqueList<Client> expectedUniqueClientList = new UniqueList<>();
         expectedUniqueClientList.add(BOB);
         assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
     }
 
     @Test
@@ -163,6 +176,15 @@ public class UniqueClientListTest {
         assertThrows(DuplicateEntityException.class, () -> uniqueClientList.setAll(listWithDuplicateClients));
     }
 
+    @Test
+    public void setAll_listWithClientsOfSameEmail_reportsIdenticalPair() {
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, BOB, editedAlice);
+        String expectedMessage = String.format(DuplicateEntityException.MESSAGE_IDENTICAL_PAIR, ALICE, editedAlice);
+        assertThrows(DuplicateEntityException.class, expectedMessage, () ->
+                uniqueClientList.setAll(listWithDuplicateClients));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,106 @@
+package seedu.address.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSessions.GETWELL;
+import static seedu.address.testutil.TypicalSessions.MACHOMAN;
+import static seedu.address.testutil.TypicalSessions.ULTRAMAN;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.SessionBuilder;
+
+public class SessionRangeListTest {
+
+    private static final LocalDateTime SEPTEMBER_29 = LocalDateTime.of(2020, 9, 29, 0, 0);
+    private static final LocalDateTime SEPTEMBER_30 = LocalDateTime.of(2020, 9, 30, 0, 0);
+
+    private final UniqueSessionList uniqueSessionList = new UniqueSessionList();
+    private final SessionRangeList sessionRangeList =
+            new SessionRangeList(uniqueSessionList.asUnmodifiableObservableList());
+
+    @Test
+    public void setRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> sessionRangeList.setRange(null));
+    }
+
+    @Test
+    public void setRange_sessionsInList_showsSessionsInRange() {
+        uniqueSessionList.setAll(Arrays.asList(GETWELL, MACHOMAN, ULTRAMAN));
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN, ULTRAMAN), sessionRangeList);
+
+        sessionRangeList.setRange(SessionRange.startingBetween(SEPTEMBER_29, SEPTEMBER_30));
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN), sessionRangeList);
+        assertEquals(1, sessionRangeList.getSourceIndex(1));
+
+        // MACHOMAN starts at 1600 and ends at 1830
+        sessionRangeList.setRange(SessionRange.startingAfter(SEPTEMBER_29.withHour(16)));
+        assertEquals(Collections.singletonList(ULTRAMAN), sessionRangeList);
+        assertEquals(0, sessionRangeList.getViewIndex(2));
+        assertEquals(-1, sessionRangeList.getViewIndex(1));
+        sessionRangeList.setRange(SessionRange.endingBefore(SEPTEMBER_29.withHour(18)));
+        assertEquals(Collections.singletonList(GETWELL), sessionRangeList);
+
+        sessionRangeList.setRange(SessionRange.startingBetween(SEPTEMBER_30.plusDays(1), SEPTEMBER_30.plusDays(2)));
+        assertEquals(Collections.emptyList(), sessionRangeList);
+    }
+
+    @Test
+    public void sourceChanged_sessionsAddedAndRemoved_rangeUpdated() {
+        uniqueSessionList.add(MACHOMAN);
+        sessionRangeList.setRange(SessionRange.startingBetween(SEPTEMBER_29, SEPTEMBER_30));
+        List<ListChangeListener.Change<? extends Session>> changes = new ArrayList<>();
+        sessionRangeList.addListener((ListChangeListener<Session>) changes::add);
+
+        uniqueSessionList.add(ULTRAMAN);
+        uniqueSessionList.add(GETWELL);
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN), sessionRangeList);
+
+        uniqueSessionList.remove(MACHOMAN);
+        assertEquals(Collections.singletonList(GETWELL), sessionRangeList);
+        // ULTRAMAN is outside the range, so adding it changes nothing in the view
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void sourceChanged_sessionsChangedInAndOutOfRange_onlyChangesInRangeReportedAtViewIndexes() {
+        Session first = sessionAt("01/10/2020 1000");
+        Session second = sessionAt("01/10/2020 1100");
+        Session third = sessionAt("01/10/2020 1200");
+        Session fourth = sessionAt("01/10/2020 1300");
+        uniqueSessionList.setAll(Arrays.asList(first, second, third, fourth));
+        sessionRangeList.setRange(SessionRange.startingBetween(LocalDateTime.of(2020, 10, 1, 11, 0),
+                LocalDateTime.of(2020, 10, 1, 13, 0)));
+        List<String> changes = new ArrayList<>();
+        sessionRangeList.addListener((ListChangeListener<Session>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemovedSize());
+            }
+        });
+
+        uniqueSessionList.add(sessionAt("01/10/2020 0900"));
+        uniqueSessionList.remove(fourth);
+        assertEquals(Collections.emptyList(), changes);
+
+        Session added = sessionAt("01/10/2020 1130");
+        uniqueSessionList.add(added);
+        assertEquals(Arrays.asList(second, added, third), sessionRangeList);
+        assertEquals(Collections.singletonList("1-2 removed 0"), changes);
+
+        changes.clear();
+        uniqueSessionList.remove(second);
+        assertEquals(Arrays.asList(added, third), sessionRangeList);
+        assertEquals(Collections.singletonList("0-0 removed 1"), changes);
+    }
+
+    private static Session sessionAt(String start) {
+        return new SessionBuilder().withInterval(start, "30").build();
+    }
+}
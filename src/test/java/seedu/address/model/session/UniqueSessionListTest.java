@@ -9,7 +9,9 @@ import static seedu.address.logic.commands.session.SessionCommandTestUtil.VALID_
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSessions.GETWELL;
 import static seedu.address.testutil.TypicalSessions.MACHOMAN;
+import static seedu.address.testutil.TypicalSessions.ULTRAMAN;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -23,7 +25,10 @@ import seedu.address.testutil.SessionBuilder;
 
 public class UniqueSessionListTest {
 
-    private final UniqueList<Session> uniqueSessionList = new UniqueList<>();
+    private static final LocalDate SEPTEMBER_29 = LocalDate.of(2020, 9, 29);
+    private static final LocalDate SEPTEMBER_30 = LocalDate.of(2020, 9, 30);
+
+    private final UniqueSessionList uniqueSessionList = new UniqueSessionList();
 
     @Test
     public void contains_nullSession_throwsNullPointerException() {
@@ -168,10 +173,122 @@ public class UniqueSessionListTest {
         assertThrows(DuplicateEntityException.class, () -> uniqueSessionList.setAll(listWithDuplicateSessions));
     }
 
+    @Test
+    public void setAll_listWithOverlappingSessions_reportsOverlappingPair() {
+        Session spanningSession = new SessionBuilder(MACHOMAN).withInterval("29/09/2020 1200", "300").build();
+        List<Session> listWithOverlappingSessions = Arrays.asList(MACHOMAN, GETWELL, spanningSession);
+        String expectedMessage = String.format(DuplicateEntityException.MESSAGE_IDENTICAL_PAIR, spanningSession,
+                GETWELL);
+        assertThrows(DuplicateEntityException.class, expectedMessage, () ->
+                uniqueSessionList.setAll(listWithOverlappingSessions));
+    }
+
+    @Test
+    public void setAll_listWithAdjacentSessions_replacesOwnListInStartTimeOrder() {
+        Session sessionAfterGetwell = new SessionBuilder(MACHOMAN).withInterval("29/09/2020 1500", "60").build();
+        uniqueSessionList.setAll(Arrays.asList(sessionAfterGetwell, GETWELL));
+        assertEquals(Arrays.asList(GETWELL, sessionAfterGetwell), uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_sessionsOutOfOrder_keepsStartTimeOrder() {
+        uniqueSessionList.add(ULTRAMAN);
+        uniqueSessionList.add(GETWELL);
+        uniqueSessionList.add(MACHOMAN);
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN, ULTRAMAN), uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void findBetween_sessionsOverSeveralDays_returnsSessionsOnThoseDaysOnce() {
+        Session overnightSession = new SessionBuilder(ULTRAMAN).withInterval("30/09/2020 2300", "120").build();
+        uniqueSessionList.setAll(Arrays.asList(MACHOMAN, GETWELL, overnightSession));
+
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN), uniqueSessionList.findBetween(SEPTEMBER_29, SEPTEMBER_30));
+        assertEquals(Collections.singletonList(overnightSession),
+                uniqueSessionList.findBetween(SEPTEMBER_30.plusDays(1), SEPTEMBER_30.plusDays(2)));
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN, overnightSession),
+                uniqueSessionList.findBetween(SEPTEMBER_29, SEPTEMBER_30.plusDays(7)));
+        assertEquals(Collections.emptyList(), uniqueSessionList.findBetween(SEPTEMBER_30, SEPTEMBER_29));
+    }
+
+    @Test
+    public void findBetween_sessionsEditedAndRemoved_returnsCurrentSessions() {
+        uniqueSessionList.add(GETWELL);
+        uniqueSessionList.add(MACHOMAN);
+        uniqueSessionList.set(GETWELL, ULTRAMAN);
+        uniqueSessionList.remove(MACHOMAN);
+
+        assertEquals(Collections.emptyList(), uniqueSessionList.findBetween(SEPTEMBER_29, SEPTEMBER_30));
+        assertEquals(Collections.singletonList(ULTRAMAN),
+                uniqueSessionList.findBetween(SEPTEMBER_30, SEPTEMBER_30.plusDays(1)));
+    }
+
+    @Test
+    public void set_editedSessionStartsLater_movesSession() {
+        uniqueSessionList.add(GETWELL);
+        uniqueSessionList.add(MACHOMAN);
+        uniqueSessionList.add(ULTRAMAN);
+        Session laterGetwell = new SessionBuilder(GETWELL).withInterval("01/10/2020 1300", "60").build();
+        uniqueSessionList.set(GETWELL, laterGetwell);
+        assertEquals(Arrays.asList(MACHOMAN, ULTRAMAN, laterGetwell), uniqueSessionList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(laterGetwell), uniqueSessionList.findOverlapping(
+                laterGetwell.getInterval()));
+    }
+
+    @Test
+    public void set_editedSessionKeepsPosition_replacesInPlace() {
+        uniqueSessionList.add(GETWELL);
+        uniqueSessionList.add(ULTRAMAN);
+        Session editedGetwell = new SessionBuilder(GETWELL).withExerciseType(VALID_EXERCISE_TYPE_MACHOMAN).build();
+        uniqueSessionList.set(GETWELL, editedGetwell);
+        assertEquals(Arrays.asList(editedGetwell, ULTRAMAN), uniqueSessionList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueSessionList
                 .asUnmodifiableObservableList().remove(0));
     }
-}
 
+    @Test
+    public void findOverlapping_intervalSpanningTwoSessions_returnsBothInStartOrder() {
+        uniqueSessionList.add(MACHOMAN);
+        uniqueSessionList.add(GETWELL);
+        Interval spanning = new SessionBuilder().withInterval("29/09/2020 1400", "180").build().getInterval();
+        assertEquals(Arrays.asList(GETWELL, MACHOMAN), uniqueSessionList.findOverlapping(spanning));
+    }
+
+    @Test
+    public void findOverlapping_adjacentInterval_returnsEmptyList() {
+        uniqueSessionList.add(GETWELL);
+        uniqueSessionList.add(MACHOMAN);
+        Interval between = new SessionBuilder().withInterval("29/09/2020 1500", "60").build().getInterval();
+        assertTrue(uniqueSessionList.findOverlapping(between).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_longSessionStartingDaysEarlier_returnsLongSession() {
+        Session longSession = new SessionBuilder().withInterval("27/09/2020 0900", "3000").build();
+        uniqueSessionList.add(longSession);
+        uniqueSessionList.add(GETWELL);
+        Interval morning = new SessionBuilder().withInterval("29/09/2020 0900", "30").build().getInterval();
+        assertEquals(Collections.singletonList(longSession), uniqueSessionList.findOverlapping(morning));
+    }
+
+    @Test
+    public void findOverlapping_removedSession_returnsEmptyList() {
+        uniqueSessionList.add(GETWELL);
+        uniqueSessionList.remove(GETWELL);
+        assertTrue(uniqueSessionList.findOverlapping(GETWELL.getInterval()).isEmpty());
+        assertFalse(uniqueSessionList.contains(GETWELL));
+    }
+
+    @Test
+    public void set_editedSessionMovedAway_releasesOldInterval() {
+        uniqueSessionList.add(GETWELL);
+        Session movedGetwell = new SessionBuilder(GETWELL).withInterval("01/10/2020 1300", "120").build();
+        uniqueSessionList.set(GETWELL, movedGetwell);
+        assertTrue(uniqueSessionList.findOverlapping(GETWELL.getInterval()).isEmpty());
+        assertTrue(uniqueSessionList.contains(movedGetwell));
+    }
+}
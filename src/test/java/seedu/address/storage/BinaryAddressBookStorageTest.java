@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.addClient(HOON);
+        original.removeSchedule(original.getScheduleList().get(0));
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+
+        // Empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertSameData(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_memoryMapped_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 5]++;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(original);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertSameData(original, storage.readAddressBook().get());
+
+        // The next save converts the file to the binary format
+        storage.saveAddressBook(original);
+        Files.delete(FileUtil.getPreviousGenerationPath(filePath)); // the json file before the save
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void exportToJson_typicalAddressBook_readableAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("Exported.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage.exportToJson(storage.readAddressBook().get(), jsonFilePath);
+
+        assertSameData(getTypicalAddressBook(), new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+        assertSameData(getTypicalAddressBook(), BinaryAddressBookStorage.importFromJson(jsonFilePath).get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_changedByte_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 5]++; // the last byte before the checksum, within the weight of the last schedule
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_previousFileRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addClient(HOON);
+        storage.saveAddressBook(edited);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryAddressBookStorage.FORMAT_VERSION + 1; // the version follows the 4 magic bytes
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        assertEquals(expected.getSessionList(), actual.getSessionList());
+        assertEquals(expected.getScheduleList(), actual.getScheduleList());
+    }
+}
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalSchedules.ALICE_GETWELL;
+import static seedu.address.testutil.TypicalSchedules.TEST_REMARK;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSessions.MACHOMAN;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.SessionBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        String snapshot = Files.readString(filePath);
+
+        original.addClient(HOON);
+        original.setClient(BENSON, new ClientBuilder(BENSON).withPhone("91234567").build());
+        original.setSession(MACHOMAN, new SessionBuilder(MACHOMAN).withGym("Another Gym").build());
+        original.setSchedule(ALICE_GETWELL, new ScheduleBuilder(ALICE_GETWELL).withRemark(TEST_REMARK).build());
+        original.removeSchedule(original.getScheduleList().get(original.getScheduleList().size() - 1));
+        saveChanges(storage, original);
+
+        // The snapshot is left as it is, and all the changes of a save make up a single entry
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+
+        // Removing a client after removing its schedules
+        Client editedBenson = original.getClientList().get(1);
+        original.findScheduleByClient(editedBenson).forEach(original::removeSchedule);
+        original.removeClient(editedBenson);
+        saveChanges(storage, original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_emailsSwappedOverSeveralChanges_eachChangeReplayedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+
+        Client alice = original.getClientList().get(0);
+        Client benson = original.getClientList().get(1);
+        Client aliceWithTempEmail = new ClientBuilder(alice).withEmail("temp@example.com").build();
+        original.setClient(alice, aliceWithTempEmail);
+        AddressBookChanges aliceEmailFreed = original.takeChanges();
+        original.setClient(benson, new ClientBuilder(benson).withEmail(alice.getEmail().value).build());
+        AddressBookChanges aliceEmailTaken = original.takeChanges();
+        original.setClient(aliceWithTempEmail, new ClientBuilder(alice).withEmail(benson.getEmail().value).build());
+        AddressBookChanges bensonEmailTaken = original.takeChanges();
+        storage.saveAddressBook(original, List.of(aliceEmailFreed, aliceEmailTaken, bensonEmailTaken));
+
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+
+        saveChanges(storage, original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_pastCompactionThreshold_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        saveChanges(storage, original);
+
+        original.addClient(HOON);
+        saveChanges(storage, original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.setClient(HOON, new ClientBuilder(HOON).withPhone("91234567").build());
+        saveChanges(storage, original);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        original.addClient(HOON);
+        saveChanges(storage, original);
+        Files.writeString(journalFilePath, "{\"clients\":[{\"id\":", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath);
+        assertSameData(original, restartedStorage.readAddressBook().get());
+
+        // The next save does not append to the incomplete entry
+        original.removeClient(HOON);
+        saveChanges(restartedStorage, original);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_lastEntryCutShort_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        original.addClient(HOON);
+        saveChanges(storage, original);
+        AddressBook expected = new AddressBook(original);
+        original.removeClient(HOON);
+        saveChanges(storage, original);
+
+        // The application stopped while the last entry was being written
+        String journal = Files.readString(journalFilePath).stripTrailing();
+        Files.writeString(journalFilePath, journal.substring(0, journal.length() - 2));
+        assertSameData(expected, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entryNotMatchingChecksum_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        original.addClient(HOON);
+        saveChanges(storage, original);
+        original.removeClient(HOON);
+        saveChanges(storage, original);
+
+        List<String> entries = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, List.of(entries.get(0).replace(HOON.getName().fullName, "Hoon Meyer"),
+                entries.get(1)));
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotNotMatchingChecksum_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        original.addClient(HOON);
+        saveChanges(storage, original);
+        AddressBook previous = new AddressBook(original);
+        original.removeClient(HOON);
+        storage.saveAddressBook(original);
+
+        // The snapshot kept as the previous generation is followed by its journal
+        Path previousFilePath = FileUtil.getPreviousGenerationPath(filePath);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(previousFilePath)).size());
+        assertSameData(previous, new JournaledAddressBookStorage(previousFilePath).readAddressBook().get());
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+
+        Files.writeString(filePath, Files.readString(filePath).replace(BENSON.getName().fullName, "Benson Meyer"));
+        JournaledAddressBookStorage damagedStorage = new JournaledAddressBookStorage(filePath);
+        assertSameData(previous, damagedStorage.readAddressBook().get());
+
+        // The damaged files do not replace the previous generation
+        damagedStorage.saveAddressBook(previous);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(previousFilePath)).size());
+        assertSameData(previous, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entryBeforeLastCorrupted_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        saveChanges(storage, original);
+        original.removeClient(HOON);
+        saveChanges(storage, original);
+
+        List<String> entries = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, List.of(entries.get(0).substring(0, entries.get(0).length() / 2),
+                entries.get(1)));
+        assertSameData(getTypicalAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_snapshotWithoutChecksum_read() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entriesWithoutChecksum_replayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+        original.addClient(HOON);
+        saveChanges(storage, original);
+
+        // Journals written before entries had checksums only hold the json of each entry
+        String entry = Files.readAllLines(journalFilePath).get(0);
+        Files.write(journalFilePath, List.of(entry.substring(entry.indexOf('{'))));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFilePath, List.of("{\"clients\":[", "{}"));
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path tempFilePath = testFolder.resolve("TempAddressBook.json.tmp");
+        AddressBook original = getTypicalAddressBook();
+
+        // Stopped after the journal was deleted, but before the new snapshot was moved into place
+        new JsonAddressBookStorage(tempFilePath).saveAddressBook(original);
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempFilePath));
+
+        // Stopped before the journal was deleted
+        new JsonAddressBookStorage(tempFilePath).saveAddressBook(new AddressBook());
+        Files.createFile(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertSameData(original, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("SomeFile.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFailedSave_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        saveChanges(storage, original);
+
+        // The changes of a save that failed are not part of the changes of the next save
+        original.addClient(HOON);
+        Files.createDirectory(journalFilePath);
+        assertThrows(IOException.class, () -> saveChanges(storage, original));
+        Files.delete(journalFilePath);
+
+        original.removeSchedule(original.getScheduleList().get(0));
+        saveChanges(storage, original);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesWithoutPreviousSave_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.takeChanges();
+        original.addClient(HOON);
+
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original, List.of(original.takeChanges()));
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * Saves the changes made to {@code addressBook} since the last time they were taken.
+     */
+    private static void saveChanges(JournaledAddressBookStorage storage, AddressBook addressBook)
+            throws IOException {
+        storage.saveAddressBook(addressBook, List.of(addressBook.takeChanges()));
+    }
+
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        assertEquals(expected.getSessionList(), actual.getSessionList());
+        assertEquals(expected.getScheduleList(), actual.getScheduleList());
+    }
+}
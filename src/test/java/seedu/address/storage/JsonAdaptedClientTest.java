@@ -38,6 +38,13 @@ public class JsonAdaptedClientTest {
         assertEquals(BENSON, client.toModelType());
     }
 
+    @Test
+    public void toModelType_nonPositiveId_throwsIllegalValueException() {
+        JsonAdaptedClient client =
+                new JsonAdaptedClient(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS);
+        assertThrows(IllegalValueException.class, JsonAdaptedClient.INVALID_ID_MESSAGE, client::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedClient client =
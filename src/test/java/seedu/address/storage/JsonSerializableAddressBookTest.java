@@ -5,13 +5,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.client.Email;
 import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalSchedules;
 
 public class JsonSerializableAddressBookTest {
 
@@ -19,6 +23,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_CLIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalClientsAddressBook.json");
     private static final Path INVALID_CLIENT_FILE = TEST_DATA_FOLDER.resolve("invalidClientAddressBook.json");
     private static final Path DUPLICATE_CLIENT_FILE = TEST_DATA_FOLDER.resolve("duplicateClientAddressBook.json");
+    private static final Path DUPLICATE_CLIENT_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateClientIdAddressBook.json");
 
     @Test
     public void toModelType_typicalClientsFile_success() throws Exception {
@@ -44,4 +50,64 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateClientIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_CLIENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyClients_firstErrorInOrderThrown() {
+        List<JsonAdaptedClient> clients = generateClients(5000);
+        // An invalid email after a duplicate id, followed by an invalid phone
+        clients.set(3000, new JsonAdaptedClient(10L, "Client", "12345678", "client3000@example.com", "Address",
+                List.of()));
+        clients.set(4000, new JsonAdaptedClient(4001L, "Client", "12345678", "example.com", "Address", List.of()));
+        clients.set(4500, new JsonAdaptedClient(4501L, "Client", "+651234", "client4500@example.com", "Address",
+                List.of()));
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(clients, List.of(), List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT_ID,
+                addressBook::toModelType);
+
+        clients.set(3000, new JsonAdaptedClient(3001L, "Client", "12345678", "client3000@example.com", "Address",
+                List.of()));
+        JsonSerializableAddressBook addressBookWithoutDuplicateId =
+                new JsonSerializableAddressBook(clients, List.of(), List.of());
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS,
+                addressBookWithoutDuplicateId::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyClients_keepsOrder() throws Exception {
+        List<JsonAdaptedClient> clients = generateClients(5000);
+        AddressBook addressBook = new JsonSerializableAddressBook(clients, List.of(), List.of()).toModelType();
+        for (int i = 0; i < clients.size(); i++) {
+            assertEquals(i + 1, addressBook.getClientList().get(i).getId());
+        }
+    }
+
+    private static List<JsonAdaptedClient> generateClients(int count) {
+        List<JsonAdaptedClient> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clients.add(new JsonAdaptedClient((long) i + 1, "Client", "12345678", "client" + i + "@example.com",
+                    "Address", List.of()));
+        }
+        return clients;
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_keepsIdsAndAssociations() throws Exception {
+        AddressBook original = TypicalSchedules.getTypicalAddressBook();
+        AddressBook restored = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original.getScheduleList(), restored.getScheduleList());
+        for (int i = 0; i < original.getScheduleList().size(); i++) {
+            assertEquals(original.getScheduleList().get(i).getClientId(),
+                    restored.getScheduleList().get(i).getClientId());
+            assertEquals(original.getScheduleList().get(i).getSessionId(),
+                    restored.getScheduleList().get(i).getSessionId());
+        }
+    }
+
 }
@@ -44,6 +44,12 @@ public class JsonUserPrefsStorageTest {
         assertThrows(DataConversionException.class, () -> readUserPrefs("NotJsonFormatUserPrefs.json"));
     }
 
+    @Test
+    public void readUserPrefs_invalidValues_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readUserPrefs("InvalidRecentMonthsUserPrefs.json"));
+        assertThrows(DataConversionException.class, () -> readUserPrefs("InvalidSnapshotGenerationsUserPrefs.json"));
+    }
+
     private Path addToTestDataPathIfNotNull(String userPrefsFileInTestDataFolder) {
         return userPrefsFileInTestDataFolder != null
                 ? TEST_DATA_FOLDER.resolve(userPrefsFileInTestDataFolder)
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSessions.MACHOMAN;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.session.Session;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.SessionBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final YearMonth SEPTEMBER = YearMonth.of(2020, 9);
+    private static final YearMonth NOVEMBER = YearMonth.of(2020, 11);
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, SEPTEMBER)));
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, NOVEMBER)));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        original.addClient(HOON);
+        original.removeSchedule(original.getScheduleList().get(0));
+        storage.saveAddressBook(original);
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_sessionEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path septemberFilePath = ShardedAddressBookStorage.getShardFilePath(filePath, SEPTEMBER);
+        Path novemberFilePath = ShardedAddressBookStorage.getShardFilePath(filePath, NOVEMBER);
+        Path clientsFilePath = ShardedAddressBookStorage.getShardDirectoryPath(filePath).resolve("clients.json");
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        for (Path path : new Path[] {filePath, septemberFilePath, novemberFilePath, clientsFilePath}) {
+            Files.setLastModifiedTime(path, OLD_TIME);
+        }
+
+        original.setSession(MACHOMAN, new SessionBuilder(MACHOMAN).withGym("Another Gym").build());
+        storage.saveAddressBook(new AddressBook(original));
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(septemberFilePath));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(novemberFilePath));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(clientsFilePath));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(filePath));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_clientPhoneEdited_onlyClientsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path septemberFilePath = ShardedAddressBookStorage.getShardFilePath(filePath, SEPTEMBER);
+        Path novemberFilePath = ShardedAddressBookStorage.getShardFilePath(filePath, NOVEMBER);
+        Path clientsFilePath = ShardedAddressBookStorage.getShardDirectoryPath(filePath).resolve("clients.json");
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        for (Path path : new Path[] {filePath, septemberFilePath, novemberFilePath, clientsFilePath}) {
+            Files.setLastModifiedTime(path, OLD_TIME);
+        }
+
+        // The schedules of the client in both months are replaced, but what they save is unchanged
+        Client client = original.getClientList().get(0);
+        original.setClient(client, new ClientBuilder(client).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(clientsFilePath));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(septemberFilePath));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(novemberFilePath));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        // Schedules save the email of their client
+        client = original.getClientList().get(0);
+        original.setClient(client, new ClientBuilder(client).withEmail("another@example.com").build());
+        storage.saveAddressBook(original);
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(septemberFilePath));
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(novemberFilePath));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_lastSessionOfMonthRemoved_shardDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Session novemberSession = original.getSessionList().get(original.getSessionList().size() - 1);
+        original.findScheduleBySession(novemberSession).forEach(original::removeSchedule);
+        original.removeSession(novemberSession);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, NOVEMBER)));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readRecentAddressBook_earlierShardsLeftOut_readByReadHistory() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path septemberFilePath = ShardedAddressBookStorage.getShardFilePath(filePath, SEPTEMBER);
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        Files.setLastModifiedTime(septemberFilePath, OLD_TIME);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook recent = new AddressBook(storage.readRecentAddressBook(LocalDate.of(2020, 10, 15)).get());
+        assertEquals(original.getClientList(), recent.getClientList());
+        assertEquals(1, recent.getSessionList().size());
+        assertEquals(1, recent.getScheduleList().size());
+
+        // Saves keep the shards that were left out
+        recent.addClient(HOON);
+        storage.saveAddressBook(recent);
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(septemberFilePath));
+        original.addClient(HOON);
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        // Once added, the sessions read by readHistory are not rewritten unless they change
+        recent.addHistory(storage.readHistory());
+        assertSameData(original, recent);
+        storage.saveAddressBook(recent);
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(septemberFilePath));
+        assertEquals(0, storage.readHistory().getSessionList().size());
+    }
+
+    @Test
+    public void readRecentAddressBook_sessionWithLargestIdLeftOut_idNotGivenToNewSessions() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        original.addSession(new SessionBuilder().withInterval("01/09/2020 0800", "60").build());
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook recent = new AddressBook(new ShardedAddressBookStorage(filePath)
+                .readRecentAddressBook(LocalDate.of(2020, 10, 15)).get());
+        assertEquals(1, recent.getSessionList().size());
+        assertEquals(original.getLastSessionId(), recent.getLastSessionId());
+
+        // Manifests written before the largest session id was recorded are read whole
+        String manifest = Files.readString(filePath).replaceAll(",\\s*\"lastSessionId\"\\s*:\\s*\\d+", "");
+        assertFalse(manifest.contains("lastSessionId"));
+        Files.writeString(filePath, manifest);
+        assertSameData(original, new ShardedAddressBookStorage(filePath)
+                .readRecentAddressBook(LocalDate.of(2020, 10, 15)).get());
+    }
+
+    @Test
+    public void saveAddressBook_lazilyLoadedAddressBookSavedInBackground_lastSessionIdKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookOverTwoMonths();
+        original.addSession(new SessionBuilder().withInterval("01/09/2020 0800", "60").build());
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook recent = new AddressBook(storage.readRecentAddressBook(LocalDate.of(2020, 10, 15)).get());
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        saver.save(recent, AddressBookChanges.replacingAll());
+        saver.flush();
+
+        JsonShardManifest manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get();
+        assertEquals(Optional.of(original.getLastSessionId()), manifest.getLastSessionId());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        assertSameData(original, storage.readAddressBook().get());
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, SEPTEMBER)));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(ShardedAddressBookStorage.getShardFilePath(filePath, SEPTEMBER));
+
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("SomeFile.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    /**
+     * Returns the typical address book, whose sessions are all in September 2020, with a scheduled session in
+     * November 2020.
+     */
+    private static AddressBook getTypicalAddressBookOverTwoMonths() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Session novemberSession = new SessionBuilder().withInterval("02/11/2020 1000", "60").build();
+        addressBook.addSession(novemberSession);
+        addressBook.addSchedule(new ScheduleBuilder()
+                .withClient(addressBook.getClientList().get(0))
+                .withSession(addressBook.getSessionList().get(addressBook.getSessionList().size() - 1))
+                .build());
+        return addressBook;
+    }
+
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        assertEquals(expected.getSessionList(), actual.getSessionList());
+        assertEquals(expected.getScheduleList(), actual.getScheduleList());
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class SnapshotServiceTest {
+
+    private static final Instant FIRST_SNAPSHOT_TIME = Instant.parse("2020-10-18T09:00:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_noGenerations_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotService(testFolder, 0));
+    }
+
+    @Test
+    public void saveSnapshot_readSnapshot_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path snapshotPath = new SnapshotService(testFolder, 1).saveSnapshot(original);
+
+        // Snapshots are compressed
+        assertTrue(Files.size(snapshotPath) < Files.size(saveAsJson(original)) / 2);
+        assertSameData(original, SnapshotService.readSnapshot(snapshotPath));
+    }
+
+    @Test
+    public void saveSnapshot_moreThanGenerationCount_earliestSnapshotsDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path[] savedPaths = new Path[4];
+        for (int day = 0; day < 4; day++) {
+            if (day == 3) {
+                original.addClient(HOON);
+            }
+            savedPaths[day] = getSnapshotService(day).saveSnapshot(original);
+        }
+
+        List<Path> snapshotPaths = getSnapshotService(0).getSnapshotPaths();
+        assertEquals(List.of(savedPaths[3], savedPaths[2], savedPaths[1]), snapshotPaths);
+        assertSameData(original, SnapshotService.readSnapshot(snapshotPaths.get(0)));
+    }
+
+    @Test
+    public void saveSnapshotInBackground_addressBookChangedAfterwards_snapshotUnchanged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SnapshotService snapshotService = getSnapshotService(0);
+        snapshotService.saveSnapshotInBackground(original);
+        original.addClient(HOON);
+        snapshotService.flush();
+
+        assertSameData(getTypicalAddressBook(),
+                SnapshotService.readSnapshot(snapshotService.getSnapshotPaths().get(0)));
+    }
+
+    @Test
+    public void start_noSnapshotYet_savedAddressBookWithPastSessionsSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressbook.json");
+        StorageManager storage = new StorageManager(new ShardedAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        storage.saveAddressBook(original);
+        // The past sessions are not loaded
+        ReadOnlyAddressBook recent = storage.readRecentAddressBook(LocalDate.of(2020, 10, 1)).get();
+
+        SnapshotService snapshotService = getSnapshotService(0);
+        snapshotService.start(Duration.ofDays(1), storage);
+        for (int i = 0; i < 100 && snapshotService.getSnapshotPaths().isEmpty(); i++) {
+            Thread.sleep(100);
+        }
+        snapshotService.close();
+
+        assertSameData(original, SnapshotService.readSnapshot(snapshotService.getSnapshotPaths().get(0)));
+        // Reading the snapshot from storage does not make later saves leave out the past sessions
+        storage.saveAddressBook(recent);
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readSnapshot_notCompressed_throwsDataConversionException() throws Exception {
+        Path jsonFilePath = saveAsJson(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> SnapshotService.readSnapshot(jsonFilePath));
+    }
+
+    /**
+     * Returns a {@code SnapshotService} that keeps 3 snapshots, and takes them {@code day} days after the first.
+     */
+    private SnapshotService getSnapshotService(int day) {
+        Clock clock = Clock.fixed(FIRST_SNAPSHOT_TIME.plusSeconds(day * 24 * 60 * 60), ZoneOffset.UTC);
+        return new SnapshotService(testFolder.resolve("snapshots"), 3, clock);
+    }
+
+    private Path saveAsJson(ReadOnlyAddressBook addressBook) throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(addressBook);
+        return jsonFilePath;
+    }
+
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        assertEquals(expected.getSessionList(), actual.getSessionList());
+        assertEquals(expected.getScheduleList(), actual.getScheduleList());
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSessions.MACHOMAN;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.session.Session;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.SessionBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.db");
+        assertFalse(new SqlAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertSameData(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+
+        // Only the changes are written by later saves
+        original.takeChanges();
+        original.addClient(HOON);
+        AddressBookChanges hoonAdded = original.takeChanges();
+        Client client = original.getClientList().get(0);
+        original.setClient(client, new ClientBuilder(client).withPhone("99999999").withTags().build());
+        original.setSession(MACHOMAN, new SessionBuilder(MACHOMAN).withGym("Another Gym").build());
+        original.removeSchedule(original.getScheduleList().get(0));
+        storage.saveAddressBook(original, List.of(hoonAdded, original.takeChanges()));
+        assertSameData(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+
+        // Empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertSameData(new AddressBook(), new SqlAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changes_onlyChangedRowsWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        new SqlAddressBookStorage(filePath).saveAddressBook(original);
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.takeChanges();
+
+        // Another storage rewrites the first client, which the changes below do not touch
+        Client firstClient = original.getClientList().get(0);
+        Client rewrittenClient = new ClientBuilder(firstClient).withPhone("88888888").build();
+        original.setClient(firstClient, rewrittenClient);
+        new SqlAddressBookStorage(filePath).saveAddressBook(original);
+
+        Client lastClient = addressBook.getClientList().get(addressBook.getClientList().size() - 1);
+        Client editedClient = new ClientBuilder(lastClient).withPhone("99999999").build();
+        addressBook.setClient(lastClient, editedClient);
+        storage.saveAddressBook(addressBook, List.of(addressBook.takeChanges()));
+
+        ReadOnlyAddressBook saved = new SqlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(rewrittenClient, saved.getClientList().get(0));
+        assertEquals(editedClient, saved.getClientList().get(saved.getClientList().size() - 1));
+    }
+
+    @Test
+    public void readRecentAddressBook_earlierSessionsLeftOut_readByReadHistory() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        Session novemberSession = new SessionBuilder().withInterval("02/11/2020 1000", "60").build();
+        original.addSession(novemberSession);
+        original.addSchedule(new ScheduleBuilder().withClient(original.getClientList().get(0))
+                .withSession(original.getSessionList().get(original.getSessionList().size() - 1)).build());
+        // The session with the largest id is left out
+        original.addSession(new SessionBuilder().withInterval("01/09/2020 0800", "60").build());
+        new SqlAddressBookStorage(filePath).saveAddressBook(original);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook recent = new AddressBook(storage.readRecentAddressBook(LocalDate.of(2020, 10, 15)).get());
+        assertEquals(original.getClientList(), recent.getClientList());
+        assertEquals(1, recent.getSessionList().size());
+        assertEquals(1, recent.getScheduleList().size());
+        assertEquals(original.getLastSessionId(), recent.getLastSessionId());
+
+        // Saves keep the sessions that were left out
+        recent.addClient(HOON);
+        storage.saveAddressBook(recent);
+        original.addClient(HOON);
+        assertSameData(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+
+        // And so do saves of the changes
+        recent.takeChanges();
+        Client client = recent.getClientList().get(0);
+        Client editedClient = new ClientBuilder(client).withPhone("99999999").build();
+        recent.setClient(client, editedClient);
+        storage.saveAddressBook(recent, List.of(recent.takeChanges()));
+        original.setClient(client, editedClient);
+        assertSameData(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+
+        recent.addHistory(storage.readHistory());
+        assertSameData(original, recent);
+        storage.saveAddressBook(recent);
+        assertSameData(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(0, storage.readHistory().getSessionList().size());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("SomeFile.db"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        assertEquals(expected.getSessionList(), actual.getSessionList());
+        assertEquals(expected.getScheduleList(), actual.getScheduleList());
+    }
+}
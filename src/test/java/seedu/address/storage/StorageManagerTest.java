@@ -2,16 +2,26 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.HOON;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.WeightUnit;
@@ -30,6 +40,11 @@ public class StorageManagerTest {
         storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        storageManager.stopWatchingAddressBookFile();
+    }
+
     private Path getTempFilePath(String fileName) {
         return testFolder.resolve(fileName);
     }
@@ -62,9 +77,65 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookSaveInBackground() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original, AddressBookChanges.replacingAll());
+
+        // Later changes are not part of the save
+        AddressBook expected = new AddressBook(original);
+        original.removeClient(original.getClientList().get(0));
+
+        storageManager.flush();
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(getTempFilePath("ab")).readAddressBook().get();
+        assertEquals(expected, new AddressBook(retrieved));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void watchAddressBookFile_fileChangedElsewhere_changedAddressBookRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        BlockingQueue<ReadOnlyAddressBook> changes = new LinkedBlockingQueue<>();
+        storageManager.watchAddressBookFile(changes::add);
+
+        // Saves of the storage itself are not changes
+        storageManager.saveAddressBookInBackground(original, AddressBookChanges.replacingAll());
+        storageManager.flush();
+        assertNull(changes.poll(1, TimeUnit.SECONDS));
+
+        AddressBook changed = new AddressBook(original);
+        changed.addClient(HOON);
+        new JsonAddressBookStorage(storageManager.getAddressBookFilePath()).saveAddressBook(changed);
+        ReadOnlyAddressBook read = changes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(read);
+        assertEquals(changed, new AddressBook(read));
+    }
+
+    @Test
+    public void watchAddressBookFile_journalAppendedElsewhere_changedAddressBookRead() throws Exception {
+        Path filePath = getTempFilePath("journaled");
+        storageManager = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        JournaledAddressBookStorage otherStorage = new JournaledAddressBookStorage(filePath);
+        otherStorage.readAddressBook();
+        BlockingQueue<ReadOnlyAddressBook> changes = new LinkedBlockingQueue<>();
+        storageManager.watchAddressBookFile(changes::add);
+
+        // Another instance appends its changes to the journal without writing the data file
+        AddressBook changed = new AddressBook(original);
+        changed.takeChanges();
+        changed.addClient(HOON);
+        otherStorage.saveAddressBook(changed, List.of(changed.takeChanges()));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        ReadOnlyAddressBook read = changes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(read);
+        assertEquals(changed, new AddressBook(read));
+    }
 }
@@ -47,10 +47,14 @@ public class TypicalSchedules {
     } // prevents instantiation
 
     /**
-     * Returns an {@code AddressBook} with all the typical Sessions.
+     * Returns an {@code AddressBook} with all the typical Schedules, and the Clients and Sessions they associate.
      */
     public static AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
+        ab.addClient(ALICE);
+        ab.addClient(BENSON);
+        ab.addSession(GETWELL);
+        ab.addSession(MACHOMAN);
         for (Schedule schedule : getTypicalSchedules()) {
             ab.addSchedule(schedule);
         }
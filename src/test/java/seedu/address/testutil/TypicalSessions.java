@@ -16,6 +16,7 @@ import static seedu.address.logic.commands.session.SessionCommandTestUtil.VALID_
 import static seedu.address.logic.commands.session.SessionCommandTestUtil.VALID_START_TIME_MACHOMAN_PLUS2MONTHS;
 import static seedu.address.logic.commands.session.SessionCommandTestUtil.VALID_START_TIME_MACHOMAN_TOMORROW;
 import static seedu.address.logic.commands.session.SessionCommandTestUtil.VALID_START_TIME_ULTRAMAN;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
 import static seedu.address.testutil.TypicalSchedules.getTypicalSchedules;
 
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.session.Session;
 
@@ -88,10 +90,13 @@ public class TypicalSessions {
     }
 
     /**
-     * Returns an {@code AddressBook} with all the typical Sessions.
+     * Returns an {@code AddressBook} with all the typical Clients, Sessions and Schedules.
      */
     public static AddressBook getIntegrationAddressBook() {
         AddressBook ab = getTypicalAddressBook();
+        for (Client client : getTypicalClients()) {
+            ab.addClient(client);
+        }
         for (Schedule schedule : getTypicalSchedules()) {
             ab.addSchedule(schedule);
         }